@@ -0,0 +1,57 @@
+package com.reviewgenie.benchmark;
+
+import com.reviewgenie.service.AnalyzedText;
+import com.reviewgenie.service.BatchAnalysisResult;
+import com.reviewgenie.service.KoreanNLPService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 일괄 분석 벤치마크
+ * - 1 op = 코퍼스 전체 분석
+ * - 순차 분석 대비 analyzeBatch 의 병렬 처리 효과 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class BatchAnalysisBenchmark {
+
+    private KoreanNLPService koreanNLPService;
+    private ForkJoinPool pool;
+    private List<String> reviews;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        koreanNLPService = new KoreanNLPService(null, pool);
+        reviews = ReviewCorpus.reviews();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) {
+        for (String review : reviews) {
+            AnalyzedText document = koreanNLPService.analyze(review);
+            blackhole.consume(koreanNLPService.analyzeSentiment(document));
+            blackhole.consume(koreanNLPService.extractKeywordRankings(document));
+            blackhole.consume(koreanNLPService.analyzeSentimentByKeyTerms(document));
+            blackhole.consume(koreanNLPService.classifyBinaryByKeyTerms(document));
+        }
+    }
+
+    @Benchmark
+    public BatchAnalysisResult analyzeBatch() {
+        return koreanNLPService.analyzeBatch(reviews);
+    }
+}
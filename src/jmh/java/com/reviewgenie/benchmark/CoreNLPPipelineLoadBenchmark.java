@@ -0,0 +1,28 @@
+package com.reviewgenie.benchmark;
+
+import com.reviewgenie.config.CoreNLPPipelineProvider;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CoreNLP 파이프라인 로딩 시간 벤치마크 (profile 별 비교)
+ * - CoreNLP 는 annotator 를 정적 풀에 캐시하므로 fork 마다 1회만 측정 (콜드 로딩)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Dfile.encoding=UTF-8", "-Xmx4g"})
+public class CoreNLPPipelineLoadBenchmark {
+
+    @Param({"sentiment", "full"})
+    private String pipelineProfile;
+
+    @Benchmark
+    public StanfordCoreNLP loadPipeline() {
+        return new CoreNLPPipelineProvider(pipelineProfile, "", "full", false).get();
+    }
+}
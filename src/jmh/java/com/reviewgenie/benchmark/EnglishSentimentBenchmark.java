@@ -0,0 +1,94 @@
+package com.reviewgenie.benchmark;
+
+import com.reviewgenie.config.CoreNLPPipelineProvider;
+import com.reviewgenie.service.AnalysisResultCache;
+import com.reviewgenie.service.CoreNLPAnnotationService;
+import com.reviewgenie.service.KoreanNLPService;
+import com.reviewgenie.service.ReviewAnalysisService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReviewAnalysisService.analyzeEnglishSentiment (Stanford CoreNLP) 벤치마크
+ * - data/reviews.json 에는 영어 리뷰가 없어 대표적인 영어 리뷰 문장을 고정 코퍼스로 사용
+ * - 1 op = 리뷰 1건 분석
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Dfile.encoding=UTF-8", "-Xmx4g"})
+public class EnglishSentimentBenchmark {
+
+    private static final List<String> ENGLISH_REVIEWS = List.of(
+            "The cakes were lovely and the latte was perfectly balanced. Staff were friendly and quick.",
+            "We waited almost forty minutes for a table, and the bagels were cold when they arrived.",
+            "Cute interior, great for photos. The lamington was a bit too sweet for me but still good.",
+            "Terrible service. The cashier ignored us and the coffee tasted burnt.",
+            "Prices are a little high, but the portion sizes and quality make up for it. Would come back!",
+            "It was okay. Nothing special about the menu, and the seating was cramped on the weekend.",
+            "Absolutely the best tiramisu I have had in Seoul. The chestnut flavor was amazing.",
+            "The place was clean and quiet in the morning. Good spot to work with a laptop for a few hours."
+    );
+
+    // sentiment: 감성 분석 전용 파이프라인, full: 기존 전체 파이프라인
+    @Param({"sentiment", "full"})
+    private String pipelineProfile;
+
+    // incremental: 문장 단위 분석 + 조기 종료, full: 문서 전체 분석
+    @Param({"incremental", "full"})
+    private String analysisMode;
+
+    // 여러 리뷰를 이어 붙인 긴 리뷰 (조기 종료/예산 효과 측정용)
+    private static final String LONG_REVIEW = String.join(" ", Collections.nCopies(4, String.join(" ", ENGLISH_REVIEWS)));
+
+    private CoreNLPAnnotationService annotationService;
+    private ReviewAnalysisService reviewAnalysisService;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // DB 저장소는 감성 분석 경로에서 사용하지 않음, 캐시는 꺼서 매번 실제 분석을 측정
+        KoreanNLPService koreanNLPService = new KoreanNLPService(null, ForkJoinPool.commonPool());
+        annotationService = new CoreNLPAnnotationService(new CoreNLPPipelineProvider(pipelineProfile, "", analysisMode, false),
+                0, 64, Duration.ofMinutes(1), 10, 2000);
+        AnalysisResultCache disabledCache = new AnalysisResultCache(false, 0, Duration.ofMinutes(1));
+        reviewAnalysisService = new ReviewAnalysisService(
+                annotationService, koreanNLPService, null, null, disabledCache, null, null);
+    }
+
+    private String nextReview() {
+        String review = ENGLISH_REVIEWS.get(cursor);
+        cursor = (cursor + 1) % ENGLISH_REVIEWS.size();
+        return review;
+    }
+
+    @TearDown
+    public void tearDown() {
+        annotationService.shutdown();
+    }
+
+    @Benchmark
+    public String analyzeEnglishSentiment() {
+        return reviewAnalysisService.analyzeEnglishSentiment(nextReview());
+    }
+
+    @Benchmark
+    public String analyzeLongEnglishReview() {
+        return reviewAnalysisService.analyzeEnglishSentiment(LONG_REVIEW);
+    }
+
+    /**
+     * 코퍼스 전체를 스레드 풀에서 병렬 분석 (1 op = 리뷰 8건)
+     */
+    @Benchmark
+    public List<String> analyzeSentimentsBatch() {
+        return reviewAnalysisService.analyzeSentiments(ENGLISH_REVIEWS);
+    }
+}
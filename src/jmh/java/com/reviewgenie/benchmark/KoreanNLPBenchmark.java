@@ -0,0 +1,89 @@
+package com.reviewgenie.benchmark;
+
+import com.reviewgenie.service.AnalyzedText;
+import com.reviewgenie.service.KoreanNLPService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KoreanNLPService 핵심 경로 벤치마크
+ * - 1 op = 리뷰 1건 분석 (코퍼스를 순환하며 사용)
+ * - gc 프로파일러의 gc.alloc.rate.norm 이 리뷰 1건당 할당 바이트
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class KoreanNLPBenchmark {
+
+    private KoreanNLPService koreanNLPService;
+    private List<String> reviews;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // KeywordRepository 는 분석 경로에서 사용하지 않음
+        koreanNLPService = new KoreanNLPService(null, ForkJoinPool.commonPool());
+        reviews = ReviewCorpus.reviews();
+    }
+
+    private String nextReview() {
+        String review = reviews.get(cursor);
+        cursor = (cursor + 1) % reviews.size();
+        return review;
+    }
+
+    @Benchmark
+    public List<String> tokenizeSimple() {
+        return koreanNLPService.tokenizeSimple(nextReview());
+    }
+
+    @Benchmark
+    public Map<String, Object> extractKeywordRankings() {
+        return koreanNLPService.extractKeywordRankings(nextReview());
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Integer>> analyzeSentimentByKeyTerms() {
+        return koreanNLPService.analyzeSentimentByKeyTerms(nextReview());
+    }
+
+    @Benchmark
+    public Map<String, Object> classifyBinaryByKeyTerms() {
+        return koreanNLPService.classifyBinaryByKeyTerms(nextReview());
+    }
+
+    @Benchmark
+    public Map<String, Object> analyzeSentiment() {
+        return koreanNLPService.analyzeSentiment(nextReview());
+    }
+
+    /**
+     * 같은 리뷰에 세 가지 분석을 각각 문자열로 호출 (리뷰마다 3회 분석)
+     */
+    @Benchmark
+    public void allAnalysesSeparately(Blackhole blackhole) {
+        String review = nextReview();
+        blackhole.consume(koreanNLPService.extractKeywordRankings(review));
+        blackhole.consume(koreanNLPService.analyzeSentimentByKeyTerms(review));
+        blackhole.consume(koreanNLPService.classifyBinaryByKeyTerms(review));
+    }
+
+    /**
+     * 같은 리뷰에 세 가지 분석을 AnalyzedText 하나로 수행 (리뷰마다 1회 분석)
+     */
+    @Benchmark
+    public void allAnalysesSharedDocument(Blackhole blackhole) {
+        AnalyzedText document = koreanNLPService.analyze(nextReview());
+        blackhole.consume(koreanNLPService.extractKeywordRankings(document));
+        blackhole.consume(koreanNLPService.analyzeSentimentByKeyTerms(document));
+        blackhole.consume(koreanNLPService.classifyBinaryByKeyTerms(document));
+    }
+}
@@ -0,0 +1,48 @@
+package com.reviewgenie.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 벤치마크용 실제 리뷰 코퍼스 (data/reviews.json 의 My_store + Competitor 리뷰)
+ */
+public final class ReviewCorpus {
+
+    private static final String RESOURCE = "data/reviews.json";
+
+    private static List<String> reviews;
+
+    private ReviewCorpus() {
+    }
+
+    public static synchronized List<String> reviews() {
+        if (reviews == null) {
+            reviews = Collections.unmodifiableList(load());
+        }
+        return reviews;
+    }
+
+    private static List<String> load() {
+        try (InputStream is = new ClassPathResource(RESOURCE).getInputStream()) {
+            JsonNode storeList = new ObjectMapper().readTree(is).path("store_list");
+            List<String> texts = new ArrayList<>();
+            storeList.path("My_store").path("reviews").forEach(review -> texts.add(review.asText()));
+            storeList.path("Competitor").forEach(competitor ->
+                    competitor.path("reviews").forEach(review -> texts.add(review.asText())));
+            if (texts.isEmpty()) {
+                throw new IllegalStateException("리뷰 코퍼스가 비어 있습니다: " + RESOURCE);
+            }
+            return texts;
+        } catch (IOException e) {
+            throw new UncheckedIOException("리뷰 코퍼스 로드 실패: " + RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.reviewgenie.benchmark;
+
+import com.reviewgenie.domain.Review;
+import com.reviewgenie.domain.Store;
+import com.reviewgenie.domain.User;
+import com.reviewgenie.service.JpaBatchInserter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 리뷰 초기 적재 INSERT 처리량 벤치마크 (PostgreSQL 필요)
+ * - 1 op = 리뷰 1행 INSERT → 결과 ops/s 가 곧 rows/s
+ * - rowByRow: 기존 방식 (IDENTITY, 행마다 INSERT ... RETURNING + 자동 커밋 = repository.save 1회)
+ * - batched: 변경 방식을 JDBC 로 직접 재현 (시퀀스 50개 단위 선할당, 한 트랜잭션에서 50건씩 executeBatch, reWriteBatchedInserts)
+ * - jpaBatchInserter: 실제 적재 경로 (JpaBatchInserter + Review 엔티티의 pooled 시퀀스 + application.yml 의 Hibernate 배치 설정)
+ * - 접속 정보: -Dbench.jdbc.url / -Dbench.jdbc.user / -Dbench.jdbc.password (기본값은 application.yml 과 동일)
+ * - rowByRow/batched 는 세션 임시 테이블(bench_review), jpaBatchInserter 는 벤치마크용 스키마(bench_jmh)에만 쓰므로 실제 데이터에는 영향 없음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class ReviewInsertBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final int BATCH_SIZE = 50;
+
+    // jpaBatchInserter 모드에서 엔티티 테이블을 만들 스키마 (Trial 종료 시 삭제)
+    private static final String JPA_SCHEMA = "bench_jmh";
+
+    @Param({"rowByRow", "batched", "jpaBatchInserter"})
+    private String insertMode;
+
+    private Connection connection;
+    private List<String> reviews;
+    private Timestamp createdAt;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private JpaBatchInserter jpaBatchInserter;
+    private List<Integer> rowIndexes;
+    private Long storeId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url",
+                "jdbc:postgresql://localhost:5432/review_genie?reWriteBatchedInserts=true");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "kt"),
+                System.getProperty("bench.jdbc.password", "kt123"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE bench_review ("
+                    + "review_id SERIAL PRIMARY KEY, store_id INTEGER NOT NULL, content TEXT,"
+                    + " sentiment VARCHAR(50), created_at TIMESTAMP)");
+            statement.execute("ALTER SEQUENCE bench_review_review_id_seq INCREMENT BY " + BATCH_SIZE);
+        }
+        reviews = ReviewCorpus.reviews();
+        createdAt = Timestamp.valueOf(LocalDateTime.now());
+        if ("jpaBatchInserter".equals(insertMode)) {
+            setUpJpa(url);
+        }
+    }
+
+    /**
+     * 애플리케이션과 같은 Hibernate 배치 설정으로 Review/Store/User 만 매핑한 EntityManagerFactory 구성
+     */
+    private void setUpJpa(String url) {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Store.class)
+                .addAnnotatedClass(Review.class)
+                .setProperty("hibernate.connection.url", url)
+                .setProperty("hibernate.connection.username", System.getProperty("bench.jdbc.user", "kt"))
+                .setProperty("hibernate.connection.password", System.getProperty("bench.jdbc.password", "kt123"))
+                .setProperty("hibernate.physical_naming_strategy",
+                        "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy")
+                .setProperty("hibernate.default_schema", JPA_SCHEMA)
+                .setProperty("hibernate.hbm2ddl.create_namespaces", "true")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                // application.yml 의 spring.jpa.properties.hibernate.* 와 동일
+                .setProperty("hibernate.jdbc.time_zone", "UTC")
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE))
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .buildSessionFactory();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new JpaTransactionManager(sessionFactory));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        jpaBatchInserter = new JpaBatchInserter(entityManager, transactionTemplate, BATCH_SIZE);
+        rowIndexes = IntStream.range(0, ROWS).boxed().toList();
+        storeId = transactionTemplate.execute(status -> {
+            User user = User.builder().username("bench").password("bench").build();
+            entityManager.persist(user);
+            Store store = Store.builder().storeName("bench").user(user).build();
+            entityManager.persist(store);
+            return store.getId();
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("jpaBatchInserter".equals(insertMode)
+                    ? "TRUNCATE " + JPA_SCHEMA + ".review"
+                    : "TRUNCATE bench_review");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + JPA_SCHEMA + " CASCADE");
+            }
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long insertReviews() throws SQLException {
+        return switch (insertMode) {
+            case "batched" -> insertBatched();
+            case "jpaBatchInserter" -> insertWithJpaBatchInserter();
+            default -> insertRowByRow();
+        };
+    }
+
+    private long insertWithJpaBatchInserter() {
+        LocalDateTime reviewCreatedAt = createdAt.toLocalDateTime();
+        // 50건마다 영속성 컨텍스트를 비우므로 매장은 참조 프록시로 다시 얻음 (ReviewIngestionPipeline 과 동일)
+        return jpaBatchInserter.insertAll(rowIndexes, row -> Review.builder()
+                .store(entityManager.getReference(Store.class, storeId))
+                .content(reviews.get(row % reviews.size()))
+                .sentiment("POSITIVE")
+                .createdAt(reviewCreatedAt)
+                .build());
+    }
+
+    private long insertRowByRow() throws SQLException {
+        connection.setAutoCommit(true);
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_review (store_id, content, sentiment, created_at) VALUES (?, ?, ?, ?) RETURNING review_id")) {
+            for (int i = 0; i < ROWS; i++) {
+                bindReview(insert, 1, i);
+                try (ResultSet generated = insert.executeQuery()) {
+                    generated.next();
+                    lastId = generated.getLong(1);
+                }
+            }
+        }
+        return lastId;
+    }
+
+    private long insertBatched() throws SQLException {
+        connection.setAutoCommit(false);
+        long nextId = 0;
+        long idLimit = 0;
+        try (PreparedStatement sequence = connection.prepareStatement("SELECT nextval('bench_review_review_id_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO bench_review (review_id, store_id, content, sentiment, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                // pooled 옵티마이저와 같이 nextval 1회로 (hi - 50, hi] 구간 ID 사용
+                if (nextId == idLimit) {
+                    try (ResultSet hi = sequence.executeQuery()) {
+                        hi.next();
+                        idLimit = hi.getLong(1);
+                        nextId = idLimit - BATCH_SIZE;
+                    }
+                }
+                insert.setLong(1, ++nextId);
+                bindReview(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return nextId;
+    }
+
+    private void bindReview(PreparedStatement insert, int firstIndex, int row) throws SQLException {
+        insert.setLong(firstIndex, 1L);
+        insert.setString(firstIndex + 1, reviews.get(row % reviews.size()));
+        insert.setString(firstIndex + 2, "POSITIVE");
+        insert.setTimestamp(firstIndex + 3, createdAt);
+    }
+}
@@ -0,0 +1,70 @@
+package com.reviewgenie.benchmark;
+
+import com.reviewgenie.util.KoreanTokenizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * tokenizeSimple 비교: 기존 정규식 구현 vs 문자 클래스 스캐너
+ * - 1 op = 리뷰 1건 토큰화
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class TokenizerBenchmark {
+
+    private List<String> reviews;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        reviews = ReviewCorpus.reviews();
+    }
+
+    private String nextReview() {
+        String review = reviews.get(cursor);
+        cursor = (cursor + 1) % reviews.size();
+        return review;
+    }
+
+    @Benchmark
+    public List<String> regexTokenize() {
+        return legacyTokenizeSimple(nextReview());
+    }
+
+    @Benchmark
+    public List<String> scannerTokenize() {
+        return KoreanTokenizer.tokenize(nextReview()).toList();
+    }
+
+    /**
+     * 문자열 생성 없이 경계만 필요한 경우 (AnalyzedText 생성 경로)
+     */
+    @Benchmark
+    public void scannerOffsetsOnly(Blackhole blackhole) {
+        KoreanTokenizer.TextSpans spans = KoreanTokenizer.tokenize(nextReview());
+        for (int i = 0; i < spans.size(); i++) {
+            blackhole.consume(spans.end(i) - spans.start(i));
+        }
+    }
+
+    // 변경 전 KoreanNLPService.tokenizeSimple 구현 (비교 기준)
+    private static List<String> legacyTokenizeSimple(String text) {
+        if (text == null || text.trim().isEmpty()) { return new ArrayList<>(); }
+        List<String> tokens = new ArrayList<>();
+        String cleanText = text.replaceAll("[^가-힣a-zA-Z0-9\\s]", " ");
+        for (String word : cleanText.split("\\s+")) {
+            if (!word.trim().isEmpty()) {
+                tokens.add(word.trim());
+            }
+        }
+        return tokens;
+    }
+}
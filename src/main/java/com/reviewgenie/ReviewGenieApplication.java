@@ -1,8 +1,10 @@
 package com.reviewgenie;
 
+import com.reviewgenie.service.InitialDataLoadStatus;
 import com.reviewgenie.service.ReviewBatchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -15,6 +17,10 @@ public class ReviewGenieApplication {
 		SpringApplication.run(ReviewGenieApplication.class, args);
 	}
 
+	/**
+	 * 초기 데이터 적재 (기본: 백그라운드 스레드에서 실행하여 웹 서버 기동을 막지 않음)
+	 * - 적재가 끝날 때까지 데이터 API 는 503, /api/health/readiness 로 진행 상태 확인
+	 */
 	@Component
 	@RequiredArgsConstructor
 	public static class DataInitializer implements CommandLineRunner {
@@ -22,14 +28,29 @@ public class ReviewGenieApplication {
 		private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(DataInitializer.class);
 
 		private final ReviewBatchService reviewBatchService;
+		private final InitialDataLoadStatus initialDataLoadStatus;
+
+		// false 면 기존처럼 적재가 끝난 뒤 기동 완료
+		@Value("${initial-data.async:true}")
+		private boolean async;
 
 		@Override
 		public void run(String... args) throws Exception {
+			if (!async) {
+				load();
+				return;
+			}
+			Thread loader = new Thread(this::load, "initial-data-loader");
+			loader.setDaemon(true);
+			loader.start();
+			log.info("🚀 초기 데이터 로드를 백그라운드에서 시작합니다. (완료 전까지 데이터 API 는 503)");
+		}
+
+		private void load() {
 			log.info("🚀 애플리케이션 시작 - 초기 데이터 로드 시작");
-			reviewBatchService.loadInitialData();
-			log.info("✅ 초기 데이터 로드 완료");
+			initialDataLoadStatus.markStarted();
+			initialDataLoadStatus.markCompleted(reviewBatchService.loadInitialData());
+			log.info("✅ 초기 데이터 로드 완료 (상태: {})", initialDataLoadStatus.getState());
 		}
 	}
 }
-
-
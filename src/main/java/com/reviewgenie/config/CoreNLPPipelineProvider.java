@@ -0,0 +1,191 @@
+package com.reviewgenie.config;
+
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * 영어 감성 분석용 Stanford CoreNLP 파이프라인 (지연 로딩)
+ * - 첫 영어 분석 요청 시점에 1회만 생성 (기동 시간/상주 힙 절감)
+ * - profile=sentiment: 감성 분석에 필요한 annotator 만 로드 (pos, lemma, ner 제외)
+ * - profile=full: 기존 전체 파이프라인
+ * - mode=incremental: 문장 분리기(tokenize, ssplit)와 문장 단위 분석기(나머지 annotator)를 따로 제공
+ * - warm-up=true 면 기동 완료 후 백그라운드 스레드에서 미리 로드
+ */
+@Component
+public class CoreNLPPipelineProvider {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(CoreNLPPipelineProvider.class);
+
+    public static final String SENTIMENT_ANNOTATORS = "tokenize, ssplit, parse, sentiment";
+    public static final String FULL_ANNOTATORS = "tokenize, ssplit, pos, lemma, ner, parse, sentiment";
+
+    private static final String SPLITTER_ANNOTATORS = "tokenize, ssplit";
+    private static final String WARM_UP_TEXT = "The food was great but the service was slow.";
+
+    private final Properties properties;
+    private final boolean incremental;
+    private final boolean warmUp;
+
+    private volatile StanfordCoreNLP pipeline;
+    private volatile StanfordCoreNLP sentenceSplitter;
+    private volatile StanfordCoreNLP sentencePipeline;
+
+    public CoreNLPPipelineProvider(@Value("${nlp.english.profile:sentiment}") String profile,
+                                   @Value("${nlp.english.annotators:}") String annotators,
+                                   @Value("${nlp.english.mode:incremental}") String mode,
+                                   @Value("${nlp.english.warm-up:false}") boolean warmUp) {
+        this.properties = pipelineProperties(profile, annotators);
+        if ("incremental".equalsIgnoreCase(mode)) {
+            this.incremental = true;
+        } else if ("full".equalsIgnoreCase(mode)) {
+            this.incremental = false;
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 nlp.english.mode 입니다: " + mode);
+        }
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * 파이프라인 설정
+     * - annotators 를 직접 지정하면 profile 보다 우선
+     */
+    static Properties pipelineProperties(String profile, String annotators) {
+        Properties props = new Properties();
+        if (annotators != null && !annotators.isBlank()) {
+            props.setProperty("annotators", annotators);
+        } else if ("full".equalsIgnoreCase(profile)) {
+            props.setProperty("annotators", FULL_ANNOTATORS);
+        } else if ("sentiment".equalsIgnoreCase(profile)) {
+            props.setProperty("annotators", SENTIMENT_ANNOTATORS);
+            // 감성 분석은 이진화된 구문 트리만 사용하므로 의존 구문 그래프 생성 생략
+            props.setProperty("parse.binaryTrees", "true");
+            props.setProperty("parse.buildgraphs", "false");
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 nlp.english.profile 입니다: " + profile);
+        }
+        props.setProperty("tokenize.language", "en");
+        return props;
+    }
+
+    /**
+     * 문장 분리기 설정 (전체 파이프라인과 같은 tokenize/ssplit 설정)
+     */
+    static Properties splitterProperties(Properties properties) {
+        Properties props = new Properties();
+        props.putAll(properties);
+        props.setProperty("annotators", SPLITTER_ANNOTATORS);
+        return props;
+    }
+
+    /**
+     * 문장 단위 분석기 설정 (tokenize/ssplit 을 제외한 나머지 annotator, 이미 분리된 문장을 입력으로 받음)
+     */
+    static Properties sentenceProperties(Properties properties) {
+        Properties props = new Properties();
+        props.putAll(properties);
+        String annotators = Arrays.stream(properties.getProperty("annotators").split(","))
+                .map(String::trim)
+                .filter(name -> !name.equals("tokenize") && !name.equals("ssplit"))
+                .collect(Collectors.joining(", "));
+        props.setProperty("annotators", annotators);
+        props.setProperty("enforceRequirements", "false");
+        return props;
+    }
+
+    /**
+     * 전체 파이프라인 조회 (최초 호출 시 생성, 동시 호출은 생성 완료까지 대기)
+     */
+    public StanfordCoreNLP get() {
+        StanfordCoreNLP current = pipeline;
+        return current != null ? current : loadPipeline();
+    }
+
+    /**
+     * 문장 분리 전용 파이프라인 (incremental 모드)
+     */
+    public StanfordCoreNLP getSentenceSplitter() {
+        StanfordCoreNLP current = sentenceSplitter;
+        return current != null ? current : loadSentenceSplitter();
+    }
+
+    /**
+     * 분리된 문장 1개를 분석하는 파이프라인 (incremental 모드)
+     */
+    public StanfordCoreNLP getSentencePipeline() {
+        StanfordCoreNLP current = sentencePipeline;
+        return current != null ? current : loadSentencePipeline();
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public boolean isLoaded() {
+        return incremental ? sentencePipeline != null : pipeline != null;
+    }
+
+    public String getAnnotators() {
+        return properties.getProperty("annotators");
+    }
+
+    private synchronized StanfordCoreNLP loadPipeline() {
+        if (pipeline == null) {
+            pipeline = create(properties);
+        }
+        return pipeline;
+    }
+
+    private synchronized StanfordCoreNLP loadSentenceSplitter() {
+        if (sentenceSplitter == null) {
+            sentenceSplitter = create(splitterProperties(properties));
+        }
+        return sentenceSplitter;
+    }
+
+    private synchronized StanfordCoreNLP loadSentencePipeline() {
+        if (sentencePipeline == null) {
+            sentencePipeline = create(sentenceProperties(properties));
+        }
+        return sentencePipeline;
+    }
+
+    private static StanfordCoreNLP create(Properties props) {
+        long start = System.currentTimeMillis();
+        StanfordCoreNLP created = new StanfordCoreNLP(props);
+        log.info("🧠 CoreNLP 파이프라인 로드 완료 ({}): {}ms",
+                props.getProperty("annotators"), System.currentTimeMillis() - start);
+        return created;
+    }
+
+    /**
+     * 기동 완료 후 모델 미리 로드 (요청 처리 스레드가 로딩을 기다리지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!warmUp) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                if (incremental) {
+                    getSentenceSplitter();
+                    getSentencePipeline();
+                } else {
+                    get().annotate(new Annotation(WARM_UP_TEXT));
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ CoreNLP 워밍업 실패: {}", e.getMessage());
+            }
+        }, "corenlp-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,46 @@
+package com.reviewgenie.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewgenie.service.InitialDataLoadStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * [NEW] 초기 데이터 적재가 끝나기 전에는 데이터 API 요청을 503 (warming up) 으로 응답
+ * - Retry-After 헤더로 재시도 간격 안내
+ */
+@Component
+@RequiredArgsConstructor
+public class DataReadinessInterceptor implements HandlerInterceptor {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final InitialDataLoadStatus initialDataLoadStatus;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (initialDataLoadStatus.isCompleted() || CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of(
+            "status", "WARMING_UP",
+            "message", "초기 데이터를 적재하는 중입니다. 잠시 후 다시 시도해주세요."
+        ));
+        return false;
+    }
+}
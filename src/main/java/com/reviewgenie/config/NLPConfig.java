@@ -1,25 +1,26 @@
 package com.reviewgenie.config;
 
-import edu.stanford.nlp.pipeline.StanfordCoreNLP;
-
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
 
-import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * NLP 관련 설정
+ * - 영어 감성 분석용 Stanford CoreNLP 파이프라인은 CoreNLPPipelineProvider 가 지연 생성
+ */
 @Configuration
 public class NLPConfig {
 
-    @Bean
-    @Primary
-    public StanfordCoreNLP stanfordCoreNLP() {
-        // 기본 영어 모델을 사용한 텍스트 분석 설정
-        Properties props = new Properties();
-        // sentiment 분석을 위해 parse 추가
-        props.setProperty("annotators", "tokenize, ssplit, pos, lemma, ner, parse, sentiment");
-        props.setProperty("tokenize.language", "en");
-        
-        return new StanfordCoreNLP(props);
+    /**
+     * 한국어 리뷰 일괄 분석용 ForkJoinPool
+     * - 공용 풀(commonPool)과 분리하여 다른 병렬 작업과 코어를 다투지 않도록 함
+     * - nlp.batch.parallelism 이 0 이하면 CPU 코어 수 사용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool koreanAnalysisPool(@Value("${nlp.batch.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.reviewgenie.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final DataReadinessInterceptor dataReadinessInterceptor;
+
+    /**
+     * DB 데이터를 조회하는 API 만 초기 적재 완료 전까지 차단 (헬스 체크, 텍스트 분석 API 는 바로 사용 가능)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dataReadinessInterceptor)
+                .addPathPatterns(
+                        "/api/frontend/**",
+                        "/api/keywords/**",
+                        "/api/competitors/**",
+                        "/api/reviews/analyze/batch/stores/**",
+                        "/api/test/reviews",
+                        "/api/test/load-reviews");
+    }
+}
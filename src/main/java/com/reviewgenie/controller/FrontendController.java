@@ -1,14 +1,26 @@
 package com.reviewgenie.controller;
 
 import com.reviewgenie.domain.*;
+import com.reviewgenie.dto.ReviewResponse;
 import com.reviewgenie.repository.*;
+import com.reviewgenie.service.DashboardService;
+import com.reviewgenie.service.ReviewTrendService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -17,52 +29,31 @@ import java.util.stream.Collectors;
 public class FrontendController {
 
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
     private final StoreRepository storeRepository;
-    private final KeywordRepository keywordRepository;
     private final TopGeneralKeywordRepository topGeneralKeywordRepository;
     private final CoreKeywordSentimentRepository coreKeywordSentimentRepository;
     private final CompetitorRepository competitorRepository;
+    private final DashboardService dashboardService;
+    private final ReviewTrendService reviewTrendService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // 통계 추정치가 이 값 이상이면 정확한 COUNT 대신 추정치 사용
+    private static final long EXACT_COUNT_THRESHOLD = 100_000;
+    private static final Set<String> REVIEW_SORT_PROPERTIES = Set.of("createdAt", "reviewId", "sentiment");
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "reviewId");
+    // 가게별 키워드 조회 limit 상한
+    private static final int MAX_KEYWORD_LIMIT = 100;
+
+    private record ReviewCount(long total, boolean exact) {
+    }
 
     /**
-     * 대시보드 요약 데이터
+     * 대시보드 요약 데이터 (집계 쿼리 1회 + 최신 리뷰 10건, 짧은 TTL 캐시)
      */
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboardData() {
         try {
-            Map<String, Object> dashboard = new HashMap<>();
-            
-            // 기본 통계
-            dashboard.put("totalReviews", reviewRepository.count());
-            dashboard.put("totalUsers", userRepository.count());
-            dashboard.put("totalStores", storeRepository.count());
-            dashboard.put("totalKeywords", keywordRepository.count());
-            
-            // 감성 분석 통계
-            long positiveCount = reviewRepository.countBySentiment("POSITIVE");
-            long negativeCount = reviewRepository.countBySentiment("NEGATIVE");
-            long neutralCount = reviewRepository.countBySentiment("NEUTRAL");
-            
-            dashboard.put("sentimentStats", Map.of(
-                "positive", positiveCount,
-                "negative", negativeCount,
-                "neutral", neutralCount
-            ));
-            
-            // 최근 리뷰 (최대 10개) - 생성일 기준으로 정렬하여 상위 10개 추출
-            List<Review> allReviews = reviewRepository.findAll();
-            List<Review> recentReviews = allReviews.stream()
-                .sorted((r1, r2) -> r2.getCreatedAt().compareTo(r1.getCreatedAt()))
-                .limit(10)
-                .collect(Collectors.toList());
-            
-            List<Map<String, Object>> reviewDtos = recentReviews.stream()
-                .map(this::convertReviewToDto)
-                .collect(Collectors.toList());
-            
-            dashboard.put("recentReviews", reviewDtos);
-            
-            return ResponseEntity.ok(dashboard);
+            return ResponseEntity.ok(dashboardService.getDashboard());
             
         } catch (Exception e) {
             Map<String, Object> error = new HashMap<>();
@@ -72,32 +63,70 @@ public class FrontendController {
     }
 
     /**
-     * 모든 리뷰 데이터 (페이지네이션 지원)
+     * 모든 리뷰 데이터 (DB 페이지네이션)
+     * - page/size/sort: OFFSET 페이지 (기본 최신순, 정렬 필드: createdAt, reviewId, sentiment)
+     * - cursorCreatedAt + cursorReviewId: 최신순 키셋 페이지 (깊은 페이지용, 이전 응답의 nextCursor 값을 그대로 전달)
+     * - 요청당 최대 size 건만 읽고, total 은 큰 테이블이면 통계 추정치 (pagination.totalExact 로 구분)
      */
     @GetMapping("/reviews")
     public ResponseEntity<Map<String, Object>> getAllReviews(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @PageableDefault(size = 20, sort = {"createdAt", "reviewId"}, direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorReviewId) {
         try {
-            // 간단한 페이지네이션 구현
-            List<Review> allReviews = reviewRepository.findAll();
-            int total = allReviews.size();
-            int start = page * size;
-            int end = Math.min(start + size, total);
+            int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+            for (Sort.Order order : pageable.getSort()) {
+                if (!REVIEW_SORT_PROPERTIES.contains(order.getProperty())) {
+                    return ResponseEntity.badRequest().body(Map.of("error", "정렬할 수 없는 필드입니다: " + order.getProperty()));
+                }
+            }
+            
+            Map<String, Object> pagination = new HashMap<>();
+            pagination.put("size", size);
+            List<Review> pageReviews;
+            boolean hasNext;
+            boolean latestOrder;
+            
+            if (cursorCreatedAt != null && cursorReviewId != null) {
+                // 키셋: 커서 다음 size + 1 건 조회 (1건 더 읽어 다음 페이지 여부 판단)
+                List<Review> reviews = reviewRepository.findLatestBefore(cursorCreatedAt, cursorReviewId, PageRequest.of(0, size + 1));
+                hasNext = reviews.size() > size;
+                pageReviews = hasNext ? reviews.subList(0, size) : reviews;
+                latestOrder = true;
+            } else {
+                // OFFSET: 정렬 값이 같은 행의 순서가 페이지마다 바뀌지 않도록 reviewId 를 마지막 정렬 기준으로 추가
+                Sort sort = pageable.getSort().getOrderFor("reviewId") != null
+                    ? pageable.getSort()
+                    : pageable.getSort().and(Sort.by(Sort.Direction.DESC, "reviewId"));
+                Slice<Review> slice = reviewRepository.findSliceBy(PageRequest.of(pageable.getPageNumber(), size, sort));
+                hasNext = slice.hasNext();
+                pageReviews = slice.getContent();
+                latestOrder = sort.equals(LATEST_FIRST);
+                
+                ReviewCount count = countReviews();
+                pagination.put("page", pageable.getPageNumber());
+                pagination.put("total", count.total());
+                pagination.put("totalExact", count.exact());
+                pagination.put("totalPages", (int) Math.ceil((double) count.total() / size));
+            }
+            pagination.put("hasNext", hasNext);
+            
+            // 최신순일 때만 다음 키셋 커서 제공
+            if (hasNext && latestOrder && !pageReviews.isEmpty()) {
+                Review last = pageReviews.get(pageReviews.size() - 1);
+                pagination.put("nextCursor", Map.of(
+                    "cursorCreatedAt", last.getCreatedAt(),
+                    "cursorReviewId", last.getReviewId()
+                ));
+            }
             
-            List<Review> pageReviews = allReviews.subList(start, end);
             List<Map<String, Object>> reviewDtos = pageReviews.stream()
-                .map(this::convertReviewToDto)
+                .map(ReviewResponse::from)
                 .collect(Collectors.toList());
             
             Map<String, Object> response = new HashMap<>();
             response.put("reviews", reviewDtos);
-            response.put("pagination", Map.of(
-                "page", page,
-                "size", size,
-                "total", total,
-                "totalPages", (int) Math.ceil((double) total / size)
-            ));
+            response.put("pagination", pagination);
             
             return ResponseEntity.ok(response);
             
@@ -108,6 +137,17 @@ public class FrontendController {
         }
     }
 
+    /**
+     * 전체 리뷰 수 (통계 추정치가 작으면 정확한 COUNT, 크면 COUNT 전체 스캔 대신 추정치 사용)
+     */
+    private ReviewCount countReviews() {
+        Long estimate = reviewRepository.estimateCount();
+        if (estimate == null || estimate < EXACT_COUNT_THRESHOLD) {
+            return new ReviewCount(reviewRepository.count(), true);
+        }
+        return new ReviewCount(estimate, false);
+    }
+
     /**
      * 매장별 리뷰 데이터
      */
@@ -119,7 +159,7 @@ public class FrontendController {
             
             List<Review> storeReviews = reviewRepository.findByStoreId(storeId);
             List<Map<String, Object>> reviewDtos = storeReviews.stream()
-                .map(this::convertReviewToDto)
+                .map(ReviewResponse::from)
                 .collect(Collectors.toList());
             
             Map<String, Object> response = new HashMap<>();
@@ -197,21 +237,8 @@ public class FrontendController {
     }
 
     // DTO 변환 메서드들
-    private Map<String, Object> convertReviewToDto(Review review) {
-        Map<String, Object> dto = new HashMap<>();
-        dto.put("reviewId", review.getReviewId());
-        dto.put("content", review.getContent());
-        dto.put("sentiment", review.getSentiment());
-        dto.put("createdAt", review.getCreatedAt());
-        
-        if (review.getStore() != null) {
-            dto.put("store", Map.of(
-                "id", review.getStore().getId(),
-                "storeName", review.getStore().getStoreName()
-            ));
-        }
-        
-        return dto;
+    private static ResponseEntity<Map<String, Object>> invalidKeywordLimit() {
+        return ResponseEntity.badRequest().body(Map.of("error", "limit 은 1 이상 " + MAX_KEYWORD_LIMIT + " 이하여야 합니다."));
     }
 
     private Map<String, Object> convertTopKeywordToDto(TopGeneralKeyword topKeyword) {
@@ -286,18 +313,14 @@ public class FrontendController {
             Store store = storeRepository.findByStoreName(storeName)
                 .orElseThrow(() -> new RuntimeException("Store not found: " + storeName));
             
-            // 오늘 날짜 기준으로 리뷰 수 계산
-            long todayCount = reviewRepository.findByStoreId(store.getId()).stream()
-                .filter(review -> {
-                    java.time.LocalDate reviewDate = review.getCreatedAt().toLocalDate();
-                    return reviewDate.equals(java.time.LocalDate.now());
-                })
-                .count();
+            // 오늘 날짜 기준으로 리뷰 수 계산 (일별 롤업 1행)
+            LocalDate today = LocalDate.now();
+            long todayCount = reviewTrendService.countOn(store.getId(), today);
             
             Map<String, Object> response = new HashMap<>();
             response.put("storeName", storeName);
             response.put("todayReviewCount", todayCount);
-            response.put("date", java.time.LocalDate.now().toString());
+            response.put("date", today.toString());
             
             return ResponseEntity.ok(response);
             
@@ -317,20 +340,13 @@ public class FrontendController {
             Store store = storeRepository.findByStoreName(storeName)
                 .orElseThrow(() -> new RuntimeException("Store not found: " + storeName));
             
-            java.time.LocalDate today = java.time.LocalDate.now();
+            LocalDate today = LocalDate.now();
             Map<String, Object> weeklyData = new HashMap<>();
             
-            // 최근 7일간의 리뷰 수 계산
-            for (int i = 6; i >= 0; i--) {
-                java.time.LocalDate date = today.minusDays(i);
-                long count = reviewRepository.findByStoreId(store.getId()).stream()
-                    .filter(review -> {
-                        java.time.LocalDate reviewDate = review.getCreatedAt().toLocalDate();
-                        return reviewDate.equals(date);
-                    })
-                    .count();
-                
-                weeklyData.put(date.toString(), count);
+            // 최근 7일간의 리뷰 수 계산 (일별 롤업 7행)
+            for (ReviewTrendService.Bucket bucket : reviewTrendService.getTrend(
+                    store.getId(), today.minusDays(6), today, ReviewTrendService.Granularity.DAY)) {
+                weeklyData.put(bucket.period().toString(), bucket.total());
             }
             
             Map<String, Object> response = new HashMap<>();
@@ -348,19 +364,80 @@ public class FrontendController {
         }
     }
 
+    /**
+     * [NEW] 가게별 리뷰 추이 조회 (from ~ to, 양끝 포함)
+     * - granularity: day | week(월요일 시작) | month, 기본 day
+     * - from/to 생략 시 최근 30일
+     * - 항목별 period 는 기간 시작일, from/to 는 실제로 합산한 범위 (양끝의 주/월은 일부 기간일 수 있음)
+     */
+    @GetMapping("/stores/{storeName}/reviews/trend")
+    public ResponseEntity<Map<String, Object>> getReviewTrend(
+            @PathVariable String storeName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        try {
+            Store store = storeRepository.findByStoreName(storeName)
+                .orElseThrow(() -> new RuntimeException("Store not found: " + storeName));
+            
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(29);
+            ReviewTrendService.Granularity unit;
+            List<ReviewTrendService.Bucket> buckets;
+            try {
+                unit = ReviewTrendService.Granularity.from(granularity);
+                buckets = reviewTrendService.getTrend(store.getId(), start, end, unit);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
+            
+            List<Map<String, Object>> trend = buckets.stream()
+                .map(bucket -> {
+                    Map<String, Object> dto = new HashMap<>();
+                    dto.put("period", bucket.period().toString());
+                    dto.put("from", bucket.from().toString());
+                    dto.put("to", bucket.to().toString());
+                    dto.put("total", bucket.total());
+                    dto.put("positive", bucket.positive());
+                    dto.put("negative", bucket.negative());
+                    dto.put("neutral", bucket.neutral());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("storeName", storeName);
+            response.put("granularity", unit.name().toLowerCase());
+            response.put("from", start.toString());
+            response.put("to", end.toString());
+            response.put("trend", trend);
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.internalServerError().body(error);
+        }
+    }
+
     /**
      * 가게별 키워드 감성분석 데이터 조회
+     * - limit: 언급 수(긍정 + 부정) 상위 N개 (기본/최대 100)
      */
     @GetMapping("/stores/{storeName}/keywords/sentiment")
-    public ResponseEntity<Map<String, Object>> getStoreKeywordSentiment(@PathVariable String storeName) {
+    public ResponseEntity<Map<String, Object>> getStoreKeywordSentiment(@PathVariable String storeName,
+                                                                        @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_KEYWORD_LIMIT) {
+            return invalidKeywordLimit();
+        }
         try {
             Store store = storeRepository.findByStoreName(storeName)
                 .orElseThrow(() -> new RuntimeException("Store not found: " + storeName));
             
-            List<CoreKeywordSentiment> sentiments = coreKeywordSentimentRepository.findAll().stream()
-                .filter(sentiment -> sentiment.getStore() != null && 
-                                   sentiment.getStore().getId().equals(store.getId()))
-                .collect(Collectors.toList());
+            // 언급 수 상위 limit 개 (매장 범위 쿼리 + DB LIMIT)
+            List<CoreKeywordSentiment> sentiments =
+                coreKeywordSentimentRepository.findTopByStoreId(store.getId(), PageRequest.of(0, limit));
             
             List<Map<String, Object>> sentimentDtos = sentiments.stream()
                 .map(this::convertSentimentToDto)
@@ -382,24 +459,25 @@ public class FrontendController {
 
     /**
      * 가게별 키워드 분석 데이터 조회
+     * - limit: 핵심 키워드 감정/상위 키워드 각각 상위 N개 (기본/최대 100)
      */
     @GetMapping("/stores/{storeName}/keywords/analysis")
-    public ResponseEntity<Map<String, Object>> getStoreKeywordAnalysis(@PathVariable String storeName) {
+    public ResponseEntity<Map<String, Object>> getStoreKeywordAnalysis(@PathVariable String storeName,
+                                                                       @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_KEYWORD_LIMIT) {
+            return invalidKeywordLimit();
+        }
         try {
             Store store = storeRepository.findByStoreName(storeName)
                 .orElseThrow(() -> new RuntimeException("Store not found: " + storeName));
             
-            // 키워드별 감성 분석
-            List<CoreKeywordSentiment> sentiments = coreKeywordSentimentRepository.findAll().stream()
-                .filter(sentiment -> sentiment.getStore() != null && 
-                                   sentiment.getStore().getId().equals(store.getId()))
-                .collect(Collectors.toList());
+            // 키워드별 감성 분석 (언급 수 상위 limit 개)
+            List<CoreKeywordSentiment> sentiments =
+                coreKeywordSentimentRepository.findTopByStoreId(store.getId(), PageRequest.of(0, limit));
             
-            // 상위 키워드
-            List<TopGeneralKeyword> topKeywords = topGeneralKeywordRepository.findAll().stream()
-                .filter(keyword -> keyword.getStore() != null && 
-                                 keyword.getStore().getId().equals(store.getId()))
-                .collect(Collectors.toList());
+            // 상위 키워드 (빈도 상위 limit 개)
+            List<TopGeneralKeyword> topKeywords =
+                topGeneralKeywordRepository.findTopByStoreId(store.getId(), PageRequest.of(0, limit));
             
             Map<String, Object> response = new HashMap<>();
             response.put("storeName", storeName);
@@ -421,19 +499,21 @@ public class FrontendController {
 
     /**
      * 가게별 Top General Keyword 데이터 조회
+     * - limit: 빈도 상위 N개 (기본 10, 최대 100)
      */
     @GetMapping("/stores/{storeName}/keywords/top")
-    public ResponseEntity<Map<String, Object>> getStoreTopKeywords(@PathVariable String storeName) {
+    public ResponseEntity<Map<String, Object>> getStoreTopKeywords(@PathVariable String storeName,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_KEYWORD_LIMIT) {
+            return invalidKeywordLimit();
+        }
         try {
             Store store = storeRepository.findByStoreName(storeName)
                 .orElseThrow(() -> new RuntimeException("Store not found: " + storeName));
             
-            List<TopGeneralKeyword> topKeywords = topGeneralKeywordRepository.findAll().stream()
-                .filter(keyword -> keyword.getStore() != null && 
-                                 keyword.getStore().getId().equals(store.getId()))
-                .sorted((k1, k2) -> Long.compare(k2.getFrequency(), k1.getFrequency()))
-                .limit(10)
-                .collect(Collectors.toList());
+            // 빈도 상위 limit 개 ((store_id, frequency) 인덱스 + DB LIMIT)
+            List<TopGeneralKeyword> topKeywords =
+                topGeneralKeywordRepository.findTopByStoreId(store.getId(), PageRequest.of(0, limit));
             
             List<Map<String, Object>> topKeywordDtos = topKeywords.stream()
                 .map(this::convertTopKeywordToDto)
@@ -454,7 +534,7 @@ public class FrontendController {
     }
 
     /**
-     * 가게별 총 리뷰 수 조회
+     * 가게별 총 리뷰 수 조회 (일별 롤업 합계, 리뷰 본문을 읽지 않음)
      */
     @GetMapping("/stores/{storeName}/reviews/count/total")
     public ResponseEntity<Map<String, Object>> getStoreTotalReviewCount(@PathVariable String storeName) {
@@ -462,7 +542,7 @@ public class FrontendController {
             Store store = storeRepository.findByStoreName(storeName)
                 .orElseThrow(() -> new RuntimeException("Store not found: " + storeName));
             
-            long totalCount = reviewRepository.findByStoreId(store.getId()).size();
+            long totalCount = reviewTrendService.countAll(store.getId());
             
             Map<String, Object> response = new HashMap<>();
             response.put("storeName", storeName);
@@ -0,0 +1,37 @@
+package com.reviewgenie.controller;
+
+import com.reviewgenie.service.InitialDataLoadStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/health")
+@RequiredArgsConstructor
+public class HealthController {
+
+	private final InitialDataLoadStatus initialDataLoadStatus;
+
+	/**
+	 * [NEW] liveness: 프로세스가 요청을 받을 수 있으면 항상 200 (초기 데이터 적재 중에도)
+	 */
+	@GetMapping("/liveness")
+	public ResponseEntity<Map<String, Object>> liveness() {
+		return ResponseEntity.ok(Map.of("status", "UP"));
+	}
+
+	/**
+	 * [NEW] readiness: 초기 데이터 적재가 끝나면 200 (READY / DEGRADED), 적재 중이면 503 (LOADING)
+	 * - 단계별 상태와 소요 시간 포함
+	 */
+	@GetMapping("/readiness")
+	public ResponseEntity<Map<String, Object>> readiness() {
+		HttpStatus status = initialDataLoadStatus.isCompleted() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+		return ResponseEntity.status(status).body(initialDataLoadStatus.toMap());
+	}
+}
@@ -2,11 +2,14 @@ package com.reviewgenie.controller;
 
 import com.reviewgenie.dto.CoreKeywordSentimentDto;
 import com.reviewgenie.dto.TopGeneralKeywordDto;
+import com.reviewgenie.service.KeywordAggregationJob;
 import com.reviewgenie.service.KeywordAnalysisService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +19,7 @@ import java.util.Map;
 public class KeywordController {
     
     private final KeywordAnalysisService keywordAnalysisService;
+    private final KeywordAggregationJob keywordAggregationJob;
     
     /**
      * 상점별 상위 키워드 조회
@@ -66,4 +70,39 @@ public class KeywordController {
             return ResponseEntity.badRequest().body("감정 분석 결과 저장 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+    
+    /**
+     * [NEW] 저장된 리뷰로 전체 매장의 상위 키워드/핵심 키워드 감정 집계 재계산
+     */
+    @PostMapping("/aggregate")
+    public ResponseEntity<Map<String, Object>> aggregateAllStores() {
+        try {
+            List<KeywordAggregationJob.StoreResult> results = keywordAggregationJob.aggregateAllStores();
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", results.stream().allMatch(result -> result.error() == null));
+            response.put("storeCount", results.size());
+            response.put("results", results);
+            return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * [NEW] 저장된 리뷰로 매장 1곳의 상위 키워드/핵심 키워드 감정 집계 재계산
+     */
+    @PostMapping("/aggregate/{storeId}")
+    public ResponseEntity<Map<String, Object>> aggregateStore(@PathVariable Long storeId) {
+        try {
+            KeywordAggregationJob.StoreResult result = keywordAggregationJob.aggregateStore(storeId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", result.error() == null);
+            response.put("result", result);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "error", e.getMessage()));
+        }
+    }
 }
@@ -3,11 +3,18 @@ package com.reviewgenie.controller;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reviewgenie.dto.ReviewDto;
+import com.reviewgenie.exception.AnalysisUnavailableException;
+import com.reviewgenie.service.AnalysisResultCache;
+import com.reviewgenie.service.BatchAnalysisResult;
+import com.reviewgenie.service.CoreNLPAnnotationService;
 import com.reviewgenie.service.ReviewAnalysisService;
 import com.reviewgenie.service.KoreanNLPService;
 import com.reviewgenie.service.ReviewBatchService;
+import com.reviewgenie.service.ReviewDailyStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +32,12 @@ public class ReviewController {
 	private final ReviewAnalysisService reviewAnalysisService;
 	private final KoreanNLPService koreanNLPService;
 	private final ReviewBatchService reviewBatchService;
+	private final AnalysisResultCache analysisResultCache;
+	private final CoreNLPAnnotationService coreNLPAnnotationService;
+	private final ReviewDailyStatsService reviewDailyStatsService;
+
+	@Value("${nlp.batch.max-texts:10000}")
+	private int maxBatchTexts;
 
 	@GetMapping
 	public ResponseEntity<List<ReviewDto>> getAll() throws Exception {
@@ -55,6 +68,8 @@ public class ReviewController {
 					"sentiment", sentiment,
 					"language", text.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣].*") ? "KOREAN" : "ENGLISH"
 				));
+		} catch (AnalysisUnavailableException e) {
+			return serviceUnavailable(e);
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
 		}
@@ -77,6 +92,8 @@ public class ReviewController {
 				"sentiment", sentiment,
 				"language", text.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣].*") ? "KOREAN" : "ENGLISH"
 			));
+		} catch (AnalysisUnavailableException e) {
+			return serviceUnavailable(e);
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
 		}
@@ -139,6 +156,8 @@ public class ReviewController {
 			return ResponseEntity.ok()
 				.contentType(MediaType.APPLICATION_JSON)
 				.body(analysis);
+		} catch (AnalysisUnavailableException e) {
+			return serviceUnavailable(e);
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
 		}
@@ -157,6 +176,8 @@ public class ReviewController {
 		try {
 			Map<String, Object> analysis = reviewAnalysisService.analyzeReview(text);
 			return ResponseEntity.ok(analysis);
+		} catch (AnalysisUnavailableException e) {
+			return serviceUnavailable(e);
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
 		}
@@ -199,11 +220,127 @@ public class ReviewController {
 		try {
 			Map<String, Object> result = reviewAnalysisService.analyzeBinary(text);
 			return ResponseEntity.ok(result);
+		} catch (AnalysisUnavailableException e) {
+			return serviceUnavailable(e);
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
 		}
 	}
 	
+	/**
+	 * 한국어 리뷰 일괄 분석 (멀티코어 병렬 처리)
+	 * - 요청: {"texts": ["리뷰1", "리뷰2", ...]}
+	 * - 응답: 입력 순서대로의 리뷰별 결과 + 전체 키워드/감성 집계
+	 */
+	@PostMapping("/analyze/batch")
+	public ResponseEntity<Map<String, Object>> analyzeBatch(@RequestBody Map<String, List<String>> request) {
+		List<String> texts = request.get("texts");
+		if (texts == null || texts.isEmpty()) {
+			return ResponseEntity.badRequest().body(Map.of("error", "texts 배열이 필요합니다."));
+		}
+		if (texts.size() > maxBatchTexts) {
+			return ResponseEntity.badRequest().body(Map.of("error", "한 번에 최대 " + maxBatchTexts + "건까지 분석할 수 있습니다."));
+		}
+
+		try {
+			BatchAnalysisResult result = koreanNLPService.analyzeBatch(texts);
+			return ResponseEntity.ok(Map.of(
+				"count", texts.size(),
+				"results", result.getResults(),
+				"aggregate", result.getAggregate().toMap()
+			));
+		} catch (Exception e) {
+			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+		}
+	}
+
+	/**
+	 * 매장의 저장된 리뷰 전체 일괄 분석 (집계만 반환)
+	 */
+	@PostMapping("/analyze/batch/stores/{storeId}")
+	public ResponseEntity<Map<String, Object>> analyzeStoreReviews(@PathVariable Long storeId) {
+		try {
+			BatchAnalysisResult result = reviewBatchService.analyzeStoreReviews(storeId);
+			return ResponseEntity.ok(Map.of(
+				"storeId", storeId,
+				"count", result.getResults().size(),
+				"aggregate", result.getAggregate().toMap()
+			));
+		} catch (Exception e) {
+			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+		}
+	}
+
+	/**
+	 * [NEW] 저장된 리뷰로 전체 매장의 일별 리뷰 통계 재계산
+	 */
+	@PostMapping("/daily-stats/backfill")
+	public ResponseEntity<Map<String, Object>> backfillDailyStats() {
+		try {
+			return ResponseEntity.ok(Map.of("success", true, "rows", reviewDailyStatsService.backfill()));
+		} catch (IllegalStateException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "error", e.getMessage()));
+		}
+	}
+
+	/**
+	 * [NEW] 저장된 리뷰로 매장 1곳의 일별 리뷰 통계 재계산
+	 */
+	@PostMapping("/daily-stats/backfill/{storeId}")
+	public ResponseEntity<Map<String, Object>> backfillStoreDailyStats(@PathVariable Long storeId) {
+		try {
+			return ResponseEntity.ok(Map.of("success", true, "storeId", storeId, "rows", reviewDailyStatsService.backfill(storeId)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(Map.of("success", false, "error", e.getMessage()));
+		} catch (IllegalStateException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "error", e.getMessage()));
+		}
+	}
+
+	/**
+	 * 여러 리뷰 감정 분석 (영어 리뷰는 CoreNLP 스레드 풀에서 병렬 처리)
+	 * - 요청: {"texts": ["review1", "리뷰2", ...]}
+	 * - 응답: 입력 순서대로의 감정 목록
+	 */
+	@PostMapping("/analyze/sentiment/batch")
+	public ResponseEntity<Map<String, Object>> analyzeSentimentBatch(@RequestBody Map<String, List<String>> request) {
+		List<String> texts = request.get("texts");
+		if (texts == null || texts.isEmpty()) {
+			return ResponseEntity.badRequest().body(Map.of("error", "texts 배열이 필요합니다."));
+		}
+		if (texts.size() > maxBatchTexts) {
+			return ResponseEntity.badRequest().body(Map.of("error", "한 번에 최대 " + maxBatchTexts + "건까지 분석할 수 있습니다."));
+		}
+
+		try {
+			List<String> sentiments = reviewAnalysisService.analyzeSentiments(texts);
+			return ResponseEntity.ok(Map.of(
+				"count", texts.size(),
+				"sentiments", sentiments
+			));
+		} catch (AnalysisUnavailableException e) {
+			return serviceUnavailable(e);
+		} catch (Exception e) {
+			return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+		}
+	}
+
+	/**
+	 * CoreNLP 영어 분석 스레드 풀 상태
+	 */
+	@GetMapping("/analyze/english/stats")
+	public ResponseEntity<Map<String, Object>> getEnglishAnalysisStats() {
+		return ResponseEntity.ok(coreNLPAnnotationService.getStats());
+	}
+
+	/**
+	 * 분석 결과 캐시 통계 (hit/miss/eviction)
+	 */
+	@GetMapping("/analyze/cache/stats")
+	public ResponseEntity<Map<String, Object>> getAnalysisCacheStats() {
+		return ResponseEntity.ok(analysisResultCache.getStats());
+	}
+
 	/**
 	 * 감성분석 결과 출력 (POSITIVE/NEGATIVE만, DB 저장 없음)
 	 */
@@ -225,6 +362,11 @@ public class ReviewController {
 			));
 		}
 	}
-}
-
 
+	/**
+	 * 분석 대기열 초과/시간 초과 응답 (재시도 가능)
+	 */
+	private ResponseEntity<Map<String, Object>> serviceUnavailable(AnalysisUnavailableException e) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+	}
+}
@@ -1,8 +1,11 @@
 package com.reviewgenie.controller;
 
 import com.reviewgenie.domain.Review;
+import com.reviewgenie.repository.ReviewDailyStatsRepository;
 import com.reviewgenie.repository.ReviewRepository;
 // import com.reviewgenie.service.DataIntegrationService;
+import com.reviewgenie.service.ReviewBatchService;
+import com.reviewgenie.service.ReviewIngestionPipeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +21,9 @@ public class TestController {
 
     // private final DataIntegrationService dataIntegrationService;
     private final ReviewRepository reviewRepository;
+    private final ReviewDailyStatsRepository reviewDailyStatsRepository;
+    private final ReviewBatchService reviewBatchService;
+    private final ReviewIngestionPipeline reviewIngestionPipeline;
 
     /**
      * 루트 경로 - 애플리케이션 상태 확인
@@ -36,6 +42,7 @@ public class TestController {
             response.put("endpoints", Map.of(
                 "reviews", "/api/test/reviews",
                 "loadReviews", "/api/test/load-reviews",
+                "loadReviewsStats", "/api/test/load-reviews/stats",
                 "clearReviews", "/api/test/reviews (DELETE)",
                 "analyzeSentiment", "/api/reviews/analyze/sentiment",
                 "extractKeywords", "/api/reviews/analyze/keywords",
@@ -64,8 +71,8 @@ public class TestController {
             // 기존 데이터 개수 확인
             long beforeCount = reviewRepository.count();
             
-            // JSON에서 리뷰 로딩 (프론트엔드 연동에 불필요하여 비활성화)
-            // dataIntegrationService.loadReviewsFromJson();
+            // data/reviews.json 리뷰 분석 후 저장 (파싱 → 전처리 → 병렬 분류 → 배치 저장)
+            reviewBatchService.processReviewsFromJson();
             
             // 로딩 후 데이터 개수 확인
             long afterCount = reviewRepository.count();
@@ -76,6 +83,7 @@ public class TestController {
             response.put("beforeCount", beforeCount);
             response.put("afterCount", afterCount);
             response.put("addedCount", addedCount);
+            response.put("pipeline", reviewIngestionPipeline.getStats());
             
             return ResponseEntity.ok(response);
             
@@ -86,6 +94,14 @@ public class TestController {
         }
     }
 
+    /**
+     * 리뷰 적재 파이프라인 상태 (단계별 처리 건수, 큐 적재량, 처리량 - 실행 중에도 조회 가능)
+     */
+    @GetMapping("/api/test/load-reviews/stats")
+    public ResponseEntity<Map<String, Object>> getLoadReviewsStats() {
+        return ResponseEntity.ok(reviewIngestionPipeline.getStats());
+    }
+
     /**
      * 저장된 리뷰 조회 엔드포인트
      */
@@ -133,6 +149,7 @@ public class TestController {
         try {
             long beforeCount = reviewRepository.count();
             reviewRepository.deleteAll();
+            reviewDailyStatsRepository.deleteAllInBatch();
             long afterCount = reviewRepository.count();
             
             response.put("success", true);
@@ -11,11 +11,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "core_keyword_sentiment")
+@Table(name = "core_keyword_sentiment",
+       uniqueConstraints = @UniqueConstraint(name = "uk_core_keyword_sentiment_store_keyword", columnNames = {"store_id", "keyword_id"}))
 public class CoreKeywordSentiment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스(pooled) ID: INSERT 전에 ID를 미리 할당하므로 JDBC 배치 INSERT 가능 (IDENTITY 는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "core_keyword_sentiment_id_seq")
+    @SequenceGenerator(name = "core_keyword_sentiment_id_seq", sequenceName = "core_keyword_sentiment_sentiment_id_seq", allocationSize = 50)
     @Column(name = "sentiment_id")
     private Long sentimentId;
 
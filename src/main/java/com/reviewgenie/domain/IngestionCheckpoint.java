@@ -0,0 +1,37 @@
+package com.reviewgenie.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초기 데이터 적재 체크포인트 (원본 파일별 진행 위치)
+ * - 적재 데이터와 같은 트랜잭션에서 갱신되므로 record_offset 까지는 반드시 반영되어 있음
+ * - 재실행 시 record_offset 이후부터 이어서 적재, completed 면 해당 파일은 건너뜀
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "ingestion_checkpoint")
+public class IngestionCheckpoint {
+
+    @Id
+    @Column(name = "source")
+    private String source; // 예: output/reviews_data.json
+
+    @Column(name = "record_offset", nullable = false)
+    private Long recordOffset; // 반영 완료된 레코드 수
+
+    @Column(name = "byte_offset", nullable = false)
+    private Long byteOffset; // record_offset 번째 레코드 끝의 파일 내 바이트 위치 (진행률 확인용)
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
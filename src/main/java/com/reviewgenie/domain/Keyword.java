@@ -17,7 +17,7 @@ public class Keyword {
 	@Column(name = "keyword_id")
 	private Long keywordId;
 
-	@Column(name = "keyword_name", nullable = false)
+	@Column(name = "keyword_name", nullable = false, unique = true) // 초기 데이터 적재 upsert 의 자연키
 	private String keywordName;
 }
 
@@ -11,11 +11,19 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "review")
+@Table(name = "review",
+       indexes = {
+           // 최신순 목록/키셋 페이지네이션 (created_at DESC, review_id DESC)
+           @Index(name = "idx_review_created_at_review_id", columnList = "created_at DESC, review_id DESC"),
+           // 매장별 기간 집계 (리뷰 추이)
+           @Index(name = "idx_review_store_id_created_at", columnList = "store_id, created_at")
+       })
 public class Review {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// 시퀀스(pooled) ID: INSERT 전에 ID를 미리 할당하므로 JDBC 배치 INSERT 가능 (IDENTITY 는 배치 불가)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_id_seq")
+	@SequenceGenerator(name = "review_id_seq", sequenceName = "review_review_id_seq", allocationSize = 50)
 	@Column(name = "review_id")
 	private Long reviewId;
 
@@ -0,0 +1,39 @@
+package com.reviewgenie.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * [NEW] 매장별 일별 리뷰 수 롤업 (리뷰 추이/오늘 리뷰 수/대시보드 조회용)
+ * - 리뷰 저장(saveReview, 초기 데이터 적재, 리뷰 적재 파이프라인)과 같은 트랜잭션에서 증분 반영
+ * - neutral_count 는 POSITIVE/NEGATIVE 가 아닌 리뷰 (review_count = positive + negative + neutral)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "review_daily_stats")
+public class ReviewDailyStats {
+
+	@EmbeddedId
+	private ReviewDailyStatsId id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@MapsId("storeId")
+	@JoinColumn(name = "store_id")
+	private Store store;
+
+	@Column(name = "review_count", nullable = false)
+	private Long reviewCount;
+
+	@Column(name = "positive_count", nullable = false)
+	private Long positiveCount;
+
+	@Column(name = "negative_count", nullable = false)
+	private Long negativeCount;
+
+	@Column(name = "neutral_count", nullable = false)
+	private Long neutralCount;
+}
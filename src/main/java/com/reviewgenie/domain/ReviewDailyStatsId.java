@@ -0,0 +1,45 @@
+package com.reviewgenie.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class ReviewDailyStatsId implements java.io.Serializable {
+
+	@Column(name = "store_id")
+	private Long storeId;
+
+	@Column(name = "stat_date")
+	private LocalDate statDate;
+
+	public ReviewDailyStatsId() {}
+
+	public ReviewDailyStatsId(Long storeId, LocalDate statDate) {
+		this.storeId = storeId;
+		this.statDate = statDate;
+	}
+
+	public Long getStoreId() {
+		return storeId;
+	}
+
+	public LocalDate getStatDate() {
+		return statDate;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ReviewDailyStatsId that = (ReviewDailyStatsId) o;
+		return Objects.equals(storeId, that.storeId) &&
+			   Objects.equals(statDate, that.statDate);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(storeId, statDate);
+	}
+}
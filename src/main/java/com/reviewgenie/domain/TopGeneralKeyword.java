@@ -11,11 +11,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "top_general_keyword")
+@Table(name = "top_general_keyword",
+       uniqueConstraints = @UniqueConstraint(name = "uk_top_general_keyword_store_keyword", columnNames = {"store_id", "keyword"}),
+       // 매장별 빈도순 상위 N개 (ORDER BY frequency DESC LIMIT N)
+       indexes = @Index(name = "idx_top_general_keyword_store_frequency", columnList = "store_id, frequency DESC"))
 public class TopGeneralKeyword {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스(pooled) ID: INSERT 전에 ID를 미리 할당하므로 JDBC 배치 INSERT 가능 (IDENTITY 는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "top_general_keyword_id_seq")
+    @SequenceGenerator(name = "top_general_keyword_id_seq", sequenceName = "top_general_keyword_top_keyword_id_seq", allocationSize = 50)
     @Column(name = "top_keyword_id")
     private Long topKeywordId;
 
@@ -17,7 +17,7 @@ public class User {
 	@Column(name = "user_id")
 	private Long userId;
 
-	@Column(name = "username", nullable = false)
+	@Column(name = "username", nullable = false, unique = true) // 초기 데이터 적재 upsert 의 자연키
 	private String username;
 
 	@Column(name = "password", nullable = false)
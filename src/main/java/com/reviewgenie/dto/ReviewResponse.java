@@ -0,0 +1,31 @@
+package com.reviewgenie.dto;
+
+import com.reviewgenie.domain.Review;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [NEW] 리뷰 목록 응답 항목 (프론트엔드 리뷰 목록 / 대시보드 최신 리뷰 공용)
+ * - reviewId, content, sentiment, createdAt, store { id, storeName }
+ */
+public final class ReviewResponse {
+
+    private ReviewResponse() {
+    }
+
+    public static Map<String, Object> from(Review review) {
+        Map<String, Object> dto = new HashMap<>();
+        dto.put("reviewId", review.getReviewId());
+        dto.put("content", review.getContent());
+        dto.put("sentiment", review.getSentiment());
+        dto.put("createdAt", review.getCreatedAt());
+        if (review.getStore() != null) {
+            dto.put("store", Map.of(
+                    "id", review.getStore().getId(),
+                    "storeName", review.getStore().getStoreName()
+            ));
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,16 @@
+package com.reviewgenie.exception;
+
+/**
+ * 분석 작업을 지금 처리할 수 없을 때 (대기열 초과, 시간 초과)
+ * - 클라이언트는 잠시 후 재시도 가능 (503)
+ */
+public class AnalysisUnavailableException extends RuntimeException {
+
+    public AnalysisUnavailableException(String message) {
+        super(message);
+    }
+
+    public AnalysisUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
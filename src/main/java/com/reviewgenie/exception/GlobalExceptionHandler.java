@@ -34,6 +34,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * 분석 대기열 초과/시간 초과 처리 (재시도 가능)
+     */
+    @ExceptionHandler(AnalysisUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleAnalysisUnavailableException(AnalysisUnavailableException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", ex.getMessage());
+        response.put("status", "SERVICE_UNAVAILABLE");
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     /**
      * 일반적인 RuntimeException 처리
      */
@@ -1,6 +1,8 @@
 package com.reviewgenie.repository;
 
 import com.reviewgenie.domain.CoreKeywordSentiment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +17,14 @@ public interface CoreKeywordSentimentRepository extends JpaRepository<CoreKeywor
     @Query("SELECT c FROM CoreKeywordSentiment c WHERE c.store.id = :storeId")
     List<CoreKeywordSentiment> findByStoreId(@Param("storeId") Long storeId);
     
+    /**
+     * [NEW] 매장의 언급 수(긍정 + 부정) 상위 핵심 키워드 감정 (pageable 크기만큼 DB 에서 LIMIT, 매장/키워드 함께 조회)
+     */
+    @EntityGraph(attributePaths = {"store", "keyword"})
+    @Query("SELECT c FROM CoreKeywordSentiment c WHERE c.store.id = :storeId "
+            + "ORDER BY (c.positiveCount + c.negativeCount) DESC, c.sentimentId")
+    List<CoreKeywordSentiment> findTopByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+    
     @Query("SELECT c FROM CoreKeywordSentiment c WHERE c.store.id = :storeId AND c.keyword.keywordId = :keywordId")
     Optional<CoreKeywordSentiment> findByStoreIdAndKeywordId(@Param("storeId") Long storeId, @Param("keywordId") Long keywordId);
     
@@ -0,0 +1,7 @@
+package com.reviewgenie.repository;
+
+import com.reviewgenie.domain.IngestionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IngestionCheckpointRepository extends JpaRepository<IngestionCheckpoint, String> {
+}
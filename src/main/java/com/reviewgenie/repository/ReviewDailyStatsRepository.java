@@ -0,0 +1,38 @@
+package com.reviewgenie.repository;
+
+import com.reviewgenie.domain.ReviewDailyStats;
+import com.reviewgenie.domain.ReviewDailyStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ReviewDailyStatsRepository extends JpaRepository<ReviewDailyStats, ReviewDailyStatsId> {
+
+    /**
+     * [NEW] 매장의 [from, to] 일별 롤업을 기간 단위(day/week/month)로 합산
+     * - 반환: [기간 시작일(date), positive, negative, neutral] (기간 시작일 순)
+     */
+    @Query(value = "SELECT CAST(date_trunc(:unit, s.stat_date) AS date) AS period, "
+            + "SUM(s.positive_count), SUM(s.negative_count), SUM(s.neutral_count) "
+            + "FROM review_daily_stats s WHERE s.store_id = :storeId AND s.stat_date BETWEEN :from AND :to "
+            + "GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<Object[]> sumByStoreIdGroupByPeriod(@Param("storeId") Long storeId, @Param("unit") String unit,
+                                             @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * [NEW] 매장의 하루 리뷰 수 (롤업 행이 없으면 0)
+     */
+    @Query("SELECT COALESCE(SUM(s.reviewCount), 0) FROM ReviewDailyStats s WHERE s.id.storeId = :storeId AND s.id.statDate = :date")
+    long sumReviewCountByStoreIdAndDate(@Param("storeId") Long storeId, @Param("date") LocalDate date);
+
+    /**
+     * [NEW] 매장의 전체 리뷰 수 (롤업 행이 없으면 0)
+     */
+    @Query("SELECT COALESCE(SUM(s.reviewCount), 0) FROM ReviewDailyStats s WHERE s.id.storeId = :storeId")
+    long sumReviewCountByStoreId(@Param("storeId") Long storeId);
+}
@@ -1,13 +1,30 @@
 package com.reviewgenie.repository;
 
 import com.reviewgenie.domain.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    /**
+     * [NEW] 대시보드 집계 (1회 조회)
+     */
+    interface DashboardCounts {
+        long getTotalReviews();
+        long getPositiveReviews();
+        long getNegativeReviews();
+        long getNeutralReviews();
+        long getTotalUsers();
+        long getTotalStores();
+        long getTotalKeywords();
+    }
     
     /**
      * 감정별 리뷰 개수 조회
@@ -19,6 +36,19 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     @Query("SELECT r FROM Review r WHERE r.store.id = :storeId")
     List<Review> findByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 특정 매장의 리뷰 본문만 조회 (일괄 분석용)
+     */
+    @Query("SELECT r.content FROM Review r WHERE r.store.id = :storeId ORDER BY r.reviewId")
+    List<String> findContentsByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * [NEW] 특정 매장의 리뷰를 reviewId 순으로 afterId 다음부터 조회 (키워드 집계용 청크 스캔)
+     * - 반환: [reviewId, content, sentiment]
+     */
+    @Query("SELECT r.reviewId, r.content, r.sentiment FROM Review r WHERE r.store.id = :storeId AND r.reviewId > :afterId ORDER BY r.reviewId")
+    List<Object[]> findChunkByStoreId(@Param("storeId") Long storeId, @Param("afterId") Long afterId, Pageable pageable);
     
     /**
      * 감정별 리뷰 조회
@@ -30,6 +60,51 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     @Query("SELECT r.sentiment, COUNT(r) FROM Review r GROUP BY r.sentiment")
     List<Object[]> getSentimentStatistics();
+
+    /**
+     * [NEW] 대시보드 전체/감정별 리뷰 수와 사용자/매장/키워드 수를 한 번에 조회
+     * - 리뷰 수는 일별 롤업(review_daily_stats) 합계 (review 테이블은 스캔하지 않음)
+     */
+    @Query(value = "SELECT r.total AS \"totalReviews\", r.positive AS \"positiveReviews\", "
+            + "r.negative AS \"negativeReviews\", r.neutral AS \"neutralReviews\", "
+            + "(SELECT COUNT(*) FROM users) AS \"totalUsers\", "
+            + "(SELECT COUNT(*) FROM store) AS \"totalStores\", "
+            + "(SELECT COUNT(*) FROM keyword) AS \"totalKeywords\" "
+            + "FROM (SELECT CAST(COALESCE(SUM(review_count), 0) AS bigint) AS total, "
+            + "CAST(COALESCE(SUM(positive_count), 0) AS bigint) AS positive, "
+            + "CAST(COALESCE(SUM(negative_count), 0) AS bigint) AS negative, "
+            + "CAST(COALESCE(SUM(neutral_count), 0) AS bigint) AS neutral "
+            + "FROM review_daily_stats) r", nativeQuery = true)
+    DashboardCounts getDashboardCounts();
+
+    /**
+     * [NEW] 최신 리뷰 10건 (created_at, review_id 인덱스 사용, 매장 함께 조회)
+     */
+    @EntityGraph(attributePaths = "store")
+    List<Review> findTop10ByOrderByCreatedAtDescReviewIdDesc();
+
+    /**
+     * [NEW] 리뷰 페이지 조회 (OFFSET/LIMIT, 매장 함께 조회)
+     * - Slice 는 size + 1 건만 읽어 다음 페이지 여부를 판단하므로 COUNT 쿼리를 실행하지 않음
+     */
+    @EntityGraph(attributePaths = "store")
+    @Query("SELECT r FROM Review r")
+    Slice<Review> findSliceBy(Pageable pageable);
+
+    /**
+     * [NEW] (createdAt, reviewId) 커서 다음의 최신순 페이지 (키셋 페이지네이션 - 깊은 페이지도 OFFSET 없이 인덱스 탐색)
+     * - r.createdAt <= :createdAt 은 중복 조건이지만, OR 조건만으로는 (created_at DESC, review_id DESC) 인덱스의 탐색 시작점으로 쓰이지 않으므로 함께 둠
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.store "
+            + "WHERE r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.reviewId < :reviewId) "
+            + "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("reviewId") Long reviewId, Pageable pageable);
+
+    /**
+     * [NEW] 통계 정보 기반 리뷰 수 추정치 (PostgreSQL pg_class.reltuples, ANALYZE 전이면 -1)
+     */
+    @Query(value = "SELECT CAST(c.reltuples AS bigint) FROM pg_class c WHERE c.relname = 'review'", nativeQuery = true)
+    Long estimateCount();
 }
 
 
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
@@ -19,6 +20,12 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      * storeName으로 Store 조회
      */
     Optional<Store> findByStoreName(String storeName);
+    
+    /**
+     * [NEW] 전체 Store ID 목록 (초기 데이터 적재 시 FK 검증용)
+     */
+    @Query("SELECT s.id FROM Store s")
+    List<Long> findAllIds();
 }
 
 
@@ -1,7 +1,10 @@
 package com.reviewgenie.repository;
 
 import com.reviewgenie.domain.TopGeneralKeyword;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,9 +17,17 @@ public interface TopGeneralKeywordRepository extends JpaRepository<TopGeneralKey
     @Query("SELECT t FROM TopGeneralKeyword t WHERE t.store.id = :storeId ORDER BY t.frequency DESC")
     List<TopGeneralKeyword> findByStoreIdOrderByFrequencyDesc(@Param("storeId") Long storeId);
     
+    /**
+     * [NEW] 매장의 빈도순 상위 키워드 (pageable 크기만큼 DB 에서 LIMIT, 매장 함께 조회)
+     */
+    @EntityGraph(attributePaths = "store")
+    @Query("SELECT t FROM TopGeneralKeyword t WHERE t.store.id = :storeId ORDER BY t.frequency DESC, t.topKeywordId")
+    List<TopGeneralKeyword> findTopByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+    
     @Query("SELECT t FROM TopGeneralKeyword t WHERE t.store.id = :storeId AND t.frequency >= :minFrequency")
     List<TopGeneralKeyword> findByStoreIdAndFrequencyGreaterThanEqual(@Param("storeId") Long storeId, @Param("minFrequency") Integer minFrequency);
     
+    @Modifying(flushAutomatically = true)
     @Query("DELETE FROM TopGeneralKeyword t WHERE t.store.id = :storeId")
     void deleteByStoreId(@Param("storeId") Long storeId);
 }
@@ -0,0 +1,267 @@
+package com.reviewgenie.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reviewgenie.util.ContentHash;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 리뷰 분석 결과 캐시 (같은 리뷰 텍스트의 반복 분석 방지)
+ * - 키: 분석 종류 + 정규화된 텍스트의 64비트 해시/길이, 값에 정규화된 텍스트를 함께 보관해 조회 시 일치 여부 확인
+ *   (해시 충돌이면 캐시를 쓰지 않고 직접 분석)
+ * - 정규화: 공백/탭 연속을 하나로 합치고 앞뒤 공백/탭 제거 (분석 결과가 달라지지 않는 범위, 줄바꿈은 유지)
+ * - 축출: Caffeine W-TinyLFU, 항목별 추정 바이트 합계(maximumWeight)로 크기 제한
+ * - 분석은 캐시 내부 잠금 밖(호출 스레드)에서 실행하고, 같은 키를 동시에 요청한 스레드는 그 결과를 기다림
+ * - 저장하는 결과는 중첩된 Map/List/Map.Entry 까지 읽기 전용 복사본으로 바꿔 호출 측끼리 공유해도 변경되지 않도록 함
+ */
+@Component
+public class AnalysisResultCache {
+
+    /**
+     * 캐시되는 분석 종류
+     */
+    public enum Kind {
+        SENTIMENT(64, 0),
+        BINARY(256, 0),
+        REVIEW(512, 12); // 토큰/키워드 순위가 텍스트 길이에 비례
+
+        private final int baseWeight;
+        private final int weightPerChar;
+
+        Kind(int baseWeight, int weightPerChar) {
+            this.baseWeight = baseWeight;
+            this.weightPerChar = weightPerChar;
+        }
+    }
+
+    record Key(Kind kind, long textHash, int textLength) {
+    }
+
+    /**
+     * 정규화된 텍스트와 분석 결과
+     */
+    record Entry(String text, Object value) {
+    }
+
+    // 키/값 객체와 캐시 엔트리 자체의 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+    // 보관하는 정규화 텍스트의 문자당 크기 (UTF-16)
+    private static final int TEXT_BYTES_PER_CHAR = 2;
+
+    private final boolean enabled;
+    private final BiFunction<Kind, String, Key> keyFunction;
+    private final AsyncCache<Key, Entry> cache;
+
+    @Autowired
+    public AnalysisResultCache(@Value("${nlp.cache.enabled:true}") boolean enabled,
+                               @Value("${nlp.cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                               @Value("${nlp.cache.expire-after-access:6h}") Duration expireAfterAccess) {
+        this(enabled, maxWeightBytes, expireAfterAccess, AnalysisResultCache::keyOf);
+    }
+
+    /**
+     * 키 생성 함수 지정 (테스트에서 해시 충돌 재현용)
+     */
+    AnalysisResultCache(boolean enabled, long maxWeightBytes, Duration expireAfterAccess,
+                        BiFunction<Kind, String, Key> keyFunction) {
+        this.enabled = enabled && maxWeightBytes > 0;
+        this.keyFunction = keyFunction;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(maxWeightBytes, 0))
+                .weigher((Key key, Entry entry) -> weigh(key))
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 분석 후 저장
+     * - loader 는 원문을 그대로 받음 (정규화 전/후 분석 결과가 같으므로 원문 분석 결과를 공유)
+     * - loader 가 실패하면 저장하지 않고, 기다리던 스레드에도 같은 예외를 전달
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Kind kind, String text, Function<String, T> loader) {
+        if (!enabled || text == null) {
+            return loader.apply(text);
+        }
+        Key key = keyFunction.apply(kind, text);
+        // 매핑 함수는 빈 future 만 등록하고 바로 반환 → 분석은 캐시 잠금 밖에서 실행
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(new Entry(normalize(text), freeze(loader.apply(text))));
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        Entry entry = join(future);
+        if (!sameNormalizedText(entry.text(), text)) {
+            return loader.apply(text);
+        }
+        return (T) entry.value();
+    }
+
+    /**
+     * 캐시 통계 (hit/miss/eviction)
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.synchronous().stats();
+        Map<String, Object> result = new HashMap<>();
+        result.put("enabled", enabled);
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        result.put("estimatedSize", cache.synchronous().estimatedSize());
+        cache.synchronous().policy().eviction().ifPresent(eviction -> {
+            eviction.weightedSize().ifPresent(size -> result.put("weightedSizeBytes", size));
+            result.put("maxWeightBytes", eviction.getMaximum());
+        });
+        return result;
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 중첩된 Map/List/Set/Map.Entry 를 읽기 전용 복사본으로 변환 (그 밖의 값은 그대로)
+     */
+    static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 2);
+            map.forEach((k, v) -> copy.put(k, freeze(v)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(element -> copy.add(freeze(element)));
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Set<?> set) {
+            Set<Object> copy = new LinkedHashSet<>(set.size() * 2);
+            set.forEach(element -> copy.add(freeze(element)));
+            return Collections.unmodifiableSet(copy);
+        }
+        if (value instanceof Map.Entry<?, ?> entry) {
+            return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), freeze(entry.getValue()));
+        }
+        return value;
+    }
+
+    private static int weigh(Key key) {
+        long weight = ENTRY_OVERHEAD_BYTES + key.kind().baseWeight
+                + (long) (key.kind().weightPerChar + TEXT_BYTES_PER_CHAR) * key.textLength();
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static boolean isCollapsible(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * 정규화된 텍스트의 해시/길이로 키 생성 (정규화 문자열을 만들지 않고 1회 순회로 계산)
+     */
+    static Key keyOf(Kind kind, String text) {
+        long hash = ContentHash.start();
+        int length = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isCollapsible(c)) {
+                pendingSpace = length > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                hash = ContentHash.update(hash, ' ');
+                length++;
+                pendingSpace = false;
+            }
+            hash = ContentHash.update(hash, c);
+            length++;
+        }
+        return new Key(kind, ContentHash.finish(hash), length);
+    }
+
+    /**
+     * 정규화된 텍스트 (keyOf 와 같은 규칙)
+     */
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isCollapsible(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 텍스트 normalized 가 text 를 정규화한 결과와 같은지 (정규화 문자열을 만들지 않고 비교)
+     */
+    static boolean sameNormalizedText(String normalized, String text) {
+        int j = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isCollapsible(c)) {
+                pendingSpace = j > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                if (j >= normalized.length() || normalized.charAt(j++) != ' ') {
+                    return false;
+                }
+                pendingSpace = false;
+            }
+            if (j >= normalized.length() || normalized.charAt(j++) != c) {
+                return false;
+            }
+        }
+        return j == normalized.length();
+    }
+}
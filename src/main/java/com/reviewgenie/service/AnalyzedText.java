@@ -0,0 +1,118 @@
+package com.reviewgenie.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 번 분석된 텍스트 (불변 객체)
+ * - 문장 분리, 토큰 위치(offset), 정규화 명사, 명사 여부, 감성어 매칭 결과를 1회만 계산
+ * - KoreanNLPService 의 분석 메서드들이 같은 텍스트를 반복 토큰화하지 않도록 공유
+ * - KoreanNLPService.analyze(String) 로 생성
+ */
+public final class AnalyzedText {
+
+    static final AnalyzedText EMPTY = new AnalyzedText("", new int[0], new int[0], new String[0],
+            new String[0], new boolean[0], new int[0], new String[0], new int[0], new int[0]);
+
+    private final String text;
+
+    // 토큰 i 의 원문 위치 [tokenStarts[i], tokenEnds[i])
+    private final int[] tokenStarts;
+    private final int[] tokenEnds;
+    private final String[] tokens;
+    private final String[] normalizedTokens;
+    private final boolean[] nounFlags;
+    private final int[] lexiconMasks;
+
+    // 문장 i 는 토큰 [sentenceTokenStarts[i], sentenceTokenEnds[i]) 를 포함
+    private final String[] sentences;
+    private final int[] sentenceTokenStarts;
+    private final int[] sentenceTokenEnds;
+
+    private final List<String> tokenList;
+
+    AnalyzedText(String text, int[] tokenStarts, int[] tokenEnds, String[] tokens, String[] normalizedTokens,
+                 boolean[] nounFlags, int[] lexiconMasks, String[] sentences,
+                 int[] sentenceTokenStarts, int[] sentenceTokenEnds) {
+        this.text = text;
+        this.tokenStarts = tokenStarts;
+        this.tokenEnds = tokenEnds;
+        this.tokens = tokens;
+        this.normalizedTokens = normalizedTokens;
+        this.nounFlags = nounFlags;
+        this.lexiconMasks = lexiconMasks;
+        this.sentences = sentences;
+        this.sentenceTokenStarts = sentenceTokenStarts;
+        this.sentenceTokenEnds = sentenceTokenEnds;
+        this.tokenList = Collections.unmodifiableList(Arrays.asList(tokens));
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int tokenCount() {
+        return tokens.length;
+    }
+
+    public String token(int index) {
+        return tokens[index];
+    }
+
+    public int tokenStart(int index) {
+        return tokenStarts[index];
+    }
+
+    public int tokenEnd(int index) {
+        return tokenEnds[index];
+    }
+
+    /**
+     * 조사가 제거된 토큰
+     */
+    public String normalizedToken(int index) {
+        return normalizedTokens[index];
+    }
+
+    public boolean isNoun(int index) {
+        return nounFlags[index];
+    }
+
+    /**
+     * 전체 토큰 리스트 (읽기 전용)
+     */
+    public List<String> getTokens() {
+        return tokenList;
+    }
+
+    /**
+     * 토큰 범위 [from, to) 의 읽기 전용 뷰
+     */
+    public List<String> tokens(int from, int to) {
+        return tokenList.subList(from, to);
+    }
+
+    public int sentenceCount() {
+        return sentences.length;
+    }
+
+    public String sentence(int index) {
+        return sentences[index];
+    }
+
+    public int sentenceTokenStart(int index) {
+        return sentenceTokenStarts[index];
+    }
+
+    public int sentenceTokenEnd(int index) {
+        return sentenceTokenEnds[index];
+    }
+
+    /**
+     * 토큰에서 발견된 감성어 사전 마스크 (KoreanNLPService 내부용)
+     */
+    int lexiconMask(int index) {
+        return lexiconMasks[index];
+    }
+}
@@ -0,0 +1,28 @@
+package com.reviewgenie.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 일괄 분석 결과
+ * - results: 입력 순서와 동일한 리뷰별 분석 결과
+ * - aggregate: 전체 리뷰의 키워드/감성 집계
+ */
+public final class BatchAnalysisResult {
+
+    private final List<Map<String, Object>> results;
+    private final KeywordAggregate aggregate;
+
+    BatchAnalysisResult(List<Map<String, Object>> results, KeywordAggregate aggregate) {
+        this.results = results;
+        this.aggregate = aggregate;
+    }
+
+    public List<Map<String, Object>> getResults() {
+        return results;
+    }
+
+    public KeywordAggregate getAggregate() {
+        return aggregate;
+    }
+}
@@ -0,0 +1,154 @@
+package com.reviewgenie.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.reviewgenie.domain.IngestionCheckpoint;
+import com.reviewgenie.repository.IngestionCheckpointRepository;
+import com.reviewgenie.util.JsonRecordReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * [NEW] 체크포인트 기반 재개 가능 적재
+ * - commit-interval 건마다 [레코드 반영 + 체크포인트 갱신] 을 한 트랜잭션으로 커밋
+ *   → 중간에 중단되어도 체크포인트 위치까지는 반드시 반영되어 있으므로, 재실행 시 그 다음 레코드부터 이어서 적재
+ * - 완료된 파일은 재실행 시 건너뜀
+ * - upsert(): 자연키 ON CONFLICT 로 같은 레코드를 다시 적재해도 중복되지 않는 청크 writer
+ * - syncIdentity(): ID 를 직접 넣어 적재한 테이블의 IDENTITY 시퀀스를 MAX(id) 다음 값으로 맞춤
+ */
+@Component
+public class CheckpointedIngestion {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(CheckpointedIngestion.class);
+
+    private static final String SAVE_CHECKPOINT_SQL =
+            "INSERT INTO ingestion_checkpoint (source, record_offset, byte_offset, completed, updated_at) VALUES (?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (source) DO UPDATE SET record_offset = EXCLUDED.record_offset, byte_offset = EXCLUDED.byte_offset, "
+                    + "completed = EXCLUDED.completed, updated_at = EXCLUDED.updated_at";
+
+    /**
+     * 청크(최대 commit-interval 건) 반영 (호출 측 트랜잭션 안에서 실행)
+     */
+    @FunctionalInterface
+    public interface ChunkWriter {
+        void write(List<JsonNode> chunk) throws SQLException;
+    }
+
+    private final IngestionCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int commitInterval;
+
+    public CheckpointedIngestion(IngestionCheckpointRepository checkpointRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${initial-data.commit-interval:1000}") int commitInterval) {
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.commitInterval = Math.max(commitInterval, 1);
+    }
+
+    /**
+     * 체크포인트가 하나라도 있는지 (없는데 데이터가 있으면 체크포인트 도입 전에 적재된 DB)
+     */
+    public boolean hasCheckpoints() {
+        return checkpointRepository.count() > 0;
+    }
+
+    /**
+     * source 파일의 레코드를 체크포인트 이후부터 적재
+     * @return 이번 실행에서 반영한 레코드 수 (이미 완료된 파일이면 0)
+     */
+    public long ingest(String source, JsonRecordReader records, ChunkWriter writer) throws IOException {
+        IngestionCheckpoint checkpoint = checkpointRepository.findById(source).orElse(null);
+        if (checkpoint != null && Boolean.TRUE.equals(checkpoint.getCompleted())) {
+            log.info("⏭️ {} 은(는) 이미 적재 완료되어 건너뜁니다. ({}건)", source, checkpoint.getRecordOffset());
+            return 0;
+        }
+        if (checkpoint != null && checkpoint.getRecordOffset() > 0) {
+            long skipped = records.skip(checkpoint.getRecordOffset());
+            log.info("↪️ {} 체크포인트 {}건 이후부터 이어서 적재합니다.", source, skipped);
+        }
+
+        long ingested = 0;
+        List<JsonNode> chunk = new ArrayList<>(commitInterval);
+        for (JsonNode record : records) {
+            chunk.add(record);
+            if (chunk.size() == commitInterval) {
+                commit(source, records, chunk, writer, false);
+                ingested += chunk.size();
+                chunk.clear();
+            }
+        }
+        commit(source, records, chunk, writer, true);
+        return ingested + chunk.size();
+    }
+
+    /**
+     * 자연키 ON CONFLICT upsert 청크 writer (ID 는 sql 에 따라 직접 지정하거나 DB 기본값/IDENTITY 사용)
+     */
+    public ChunkWriter upsert(String sql, Function<JsonNode, Object[]> toArgs) {
+        return chunk -> {
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (JsonNode record : chunk) {
+                args.add(toArgs.apply(record));
+            }
+            jdbcTemplate.batchUpdate(sql, args);
+        };
+    }
+
+    /**
+     * 자연키 ON CONFLICT upsert 청크 writer (첫 번째 파라미터로 시퀀스에서 선할당한 ID 를 넣음)
+     */
+    public ChunkWriter upsert(String sql, String idSequence, Function<JsonNode, Object[]> toArgs) {
+        return chunk -> {
+            long[] ids = jdbcTemplate.execute((ConnectionCallback<long[]>) connection ->
+                    PooledSequenceIds.allocate(connection, idSequence, chunk.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Object[] values = toArgs.apply(chunk.get(i));
+                Object[] row = new Object[values.length + 1];
+                row[0] = ids[i];
+                System.arraycopy(values, 0, row, 1, values.length);
+                args.add(row);
+            }
+            jdbcTemplate.batchUpdate(sql, args);
+        };
+    }
+
+    /**
+     * ID 를 직접 넣은 뒤 IDENTITY 시퀀스를 MAX(id) + 1 부터 발급되도록 맞춤 (이후 애플리케이션 INSERT 와 ID 충돌 방지)
+     * - table/idColumn 은 코드의 상수만 전달 (SQL 에 그대로 들어감)
+     */
+    public void syncIdentity(String table, String idColumn) {
+        jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('" + table + "', '" + idColumn + "'), "
+                + "COALESCE(MAX(" + idColumn + "), 0) + 1, false) FROM " + table, Long.class);
+    }
+
+    private void commit(String source, JsonRecordReader records, List<JsonNode> chunk, ChunkWriter writer, boolean completed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!chunk.isEmpty()) {
+                try {
+                    writer.write(chunk);
+                } catch (SQLException e) {
+                    DataAccessException translated = jdbcTemplate.getExceptionTranslator().translate(source, null, e);
+                    throw translated != null ? translated : new UncategorizedSQLException(source, null, e);
+                }
+            }
+            jdbcTemplate.update(SAVE_CHECKPOINT_SQL, source, records.getCount(), records.getByteOffset(),
+                    completed, LocalDateTime.now());
+        });
+    }
+}
@@ -0,0 +1,267 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.config.CoreNLPPipelineProvider;
+import com.reviewgenie.exception.AnalysisUnavailableException;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import edu.stanford.nlp.util.CoreMap;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * CoreNLP 영어 문서 분석 전용 스레드 풀
+ * - 공유 파이프라인(thread-safe)을 고정 크기 워커 스레드에서 실행하여 코어 수만큼 병렬 처리
+ * - 실행 중 + 대기 중 작업 수를 (스레드 수 + 대기열 크기)로 제한하여 느린 구문 분석이 요청 스레드(Tomcat)를 쌓지 않도록 함
+ *   (단건 요청은 자리가 없으면 즉시 503, 일괄 요청은 제한 시간까지 자리를 기다림)
+ * - 요청별 제한 시간 초과 시 작업을 인터럽트로 취소하고 AnalysisUnavailableException (503)
+ *   (CoreNLP 는 인터럽트를 확인하지 않으므로 이미 실행 중인 작업의 자리는 분석이 실제로 끝날 때 반환)
+ * - incremental 모드: 문장을 먼저 가볍게 분리한 뒤 1문장씩 구문/감성 분석하고, 결론이 나면 중단
+ *   (긴 리뷰는 max-sentences / max-chars 범위의 앞부분 문장만 분석)
+ */
+@Service
+public class CoreNLPAnnotationService {
+
+    private final CoreNLPPipelineProvider pipelineProvider;
+    private final ThreadPoolExecutor executor;
+    // 실행 중 + 대기 중 작업 자리 (ThreadPoolExecutor 의 대기열 거절은 유휴 스레드가 있어도 발생할 수 있어 직접 제한)
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final int threads;
+    private final int maxSentences;
+    private final int maxChars;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    public CoreNLPAnnotationService(CoreNLPPipelineProvider pipelineProvider,
+                                    @Value("${nlp.english.threads:0}") int threads,
+                                    @Value("${nlp.english.queue-capacity:64}") int queueCapacity,
+                                    @Value("${nlp.english.timeout:10s}") Duration timeout,
+                                    @Value("${nlp.english.max-sentences:10}") int maxSentences,
+                                    @Value("${nlp.english.max-chars:2000}") int maxChars) {
+        this.pipelineProvider = pipelineProvider;
+        this.maxSentences = maxSentences;
+        this.maxChars = maxChars;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.timeout = timeout;
+        this.permits = new Semaphore(this.threads + Math.max(queueCapacity, 0));
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "corenlp-annotator-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // 영어 요청이 없을 때는 워커 스레드를 유지하지 않음
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 문서 1건 분석 (워커 스레드에서 실행, 제한 시간까지 대기)
+     * - stopWhen: incremental 모드에서 분석이 끝난 문장이 조건을 만족하면 나머지 문장은 분석하지 않음
+     * - 반환 Annotation 의 문장 목록에는 실제로 분석한 문장만 포함
+     */
+    public Annotation annotate(String text, Predicate<CoreMap> stopWhen) {
+        return await(submit(text, stopWhen, false));
+    }
+
+    /**
+     * 여러 문서 분석 (입력 순서대로 반환)
+     * - 한 번에 최대 스레드 수만큼만 제출하여 대기열을 혼자 차지하지 않음
+     */
+    public List<Annotation> annotateAll(List<String> texts, Predicate<CoreMap> stopWhen) {
+        Annotation[] results = new Annotation[texts.size()];
+        Deque<Future<Annotation>> inFlight = new ArrayDeque<>(threads);
+        int done = 0;
+        try {
+            for (String text : texts) {
+                if (inFlight.size() == threads) {
+                    results[done++] = await(inFlight.poll());
+                }
+                inFlight.add(submit(text, stopWhen, true));
+            }
+            while (!inFlight.isEmpty()) {
+                results[done++] = await(inFlight.poll());
+            }
+        } finally {
+            // 실패 시 남은 작업 취소
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 풀 상태 (실행 중/대기 중 작업 수, 거절/시간 초과 횟수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("threads", threads);
+        stats.put("activeCount", executor.getActiveCount());
+        stats.put("queueSize", executor.getQueue().size());
+        stats.put("availablePermits", permits.availablePermits());
+        stats.put("completedTaskCount", executor.getCompletedTaskCount());
+        stats.put("rejectedCount", rejectedCount.get());
+        stats.put("timeoutCount", timeoutCount.get());
+        stats.put("timeoutMillis", timeout.toMillis());
+        stats.put("pipelineLoaded", pipelineProvider.isLoaded());
+        stats.put("annotators", pipelineProvider.getAnnotators());
+        stats.put("mode", pipelineProvider.isIncremental() ? "incremental" : "full");
+        stats.put("maxSentences", maxSentences);
+        stats.put("maxChars", maxChars);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 제출 (waitForPermit 이면 제한 시간까지 자리를 기다리고, 아니면 즉시 거절)
+     */
+    private Future<Annotation> submit(String text, Predicate<CoreMap> stopWhen, boolean waitForPermit) {
+        if (!acquirePermit(waitForPermit)) {
+            rejectedCount.incrementAndGet();
+            throw new AnalysisUnavailableException("영어 분석 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 자리 반환 책임은 먼저 차지한 쪽이 가짐
+        // - 작업 본문: 시작하면 분석이 끝날 때 finally 에서 반환 (시간 초과로 취소되어도 실제 분석이 끝날 때까지 자리 유지)
+        // - done(): 시작 전에 취소된 작업만 대기열에서 빼고 반환
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<Annotation> task = new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return pipelineProvider.isIncremental()
+                        ? annotateSentences(text, stopWhen)
+                        : annotateDocument(text);
+            } finally {
+                permits.release();
+            }
+        }) {
+            @Override
+            protected void done() {
+                if (claimed.compareAndSet(false, true)) {
+                    executor.remove(this);
+                    permits.release();
+                }
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            if (executor.isShutdown()) {
+                throw new AnalysisUnavailableException("영어 분석 서비스가 종료 중입니다.", e);
+            }
+            rejectedCount.incrementAndGet();
+            throw new AnalysisUnavailableException("영어 분석 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return task;
+    }
+
+    private Annotation annotateDocument(String text) {
+        Annotation annotation = new Annotation(text);
+        pipelineProvider.get().annotate(annotation);
+        return annotation;
+    }
+
+    /**
+     * 문장 분리 후 1문장씩 분석 (stopWhen 만족 또는 예산 소진 시 중단)
+     */
+    private Annotation annotateSentences(String text, Predicate<CoreMap> stopWhen) {
+        Annotation document = new Annotation(text);
+        pipelineProvider.getSentenceSplitter().annotate(document);
+        StanfordCoreNLP sentencePipeline = pipelineProvider.getSentencePipeline();
+
+        List<CoreMap> analyzed = new ArrayList<>();
+        for (CoreMap sentence : document.get(CoreAnnotations.SentencesAnnotation.class)) {
+            if (!analyzed.isEmpty() && isOverBudget(analyzed.size(), sentence)) {
+                break;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new AnalysisUnavailableException("영어 분석이 중단되었습니다.");
+            }
+            // 분리된 문장 1개만 담은 문서로 나머지 annotator 실행 (결과는 sentence 에 기록됨)
+            Annotation single = new Annotation(sentence.get(CoreAnnotations.TextAnnotation.class));
+            single.set(CoreAnnotations.TokensAnnotation.class, sentence.get(CoreAnnotations.TokensAnnotation.class));
+            single.set(CoreAnnotations.SentencesAnnotation.class, Collections.singletonList(sentence));
+            sentencePipeline.annotate(single);
+
+            analyzed.add(sentence);
+            if (stopWhen.test(sentence)) {
+                break;
+            }
+        }
+        document.set(CoreAnnotations.SentencesAnnotation.class, analyzed);
+        return document;
+    }
+
+    // 첫 문장은 항상 분석하고, 이후 문장은 문장 수/문자 수 예산 안에서만 분석 (0 이하면 제한 없음)
+    private boolean isOverBudget(int analyzedCount, CoreMap sentence) {
+        if (maxSentences > 0 && analyzedCount >= maxSentences) {
+            return true;
+        }
+        return maxChars > 0 && sentence.get(CoreAnnotations.CharacterOffsetEndAnnotation.class) > maxChars;
+    }
+
+    private boolean acquirePermit(boolean wait) {
+        if (!wait) {
+            return permits.tryAcquire();
+        }
+        try {
+            return permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnalysisUnavailableException("영어 분석이 중단되었습니다.", e);
+        }
+    }
+
+    private Annotation await(Future<Annotation> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCount.incrementAndGet();
+            throw new AnalysisUnavailableException("영어 분석 시간이 초과되었습니다. (" + timeout.toMillis() + "ms)", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AnalysisUnavailableException("영어 분석이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("영어 분석 중 오류가 발생했습니다.", cause);
+        }
+    }
+}
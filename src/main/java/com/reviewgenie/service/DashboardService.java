@@ -0,0 +1,63 @@
+package com.reviewgenie.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewgenie.dto.ReviewResponse;
+import com.reviewgenie.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [NEW] 대시보드 요약 (/api/frontend/dashboard)
+ * - 건수는 집계 쿼리 1회, 최신 리뷰는 (created_at, review_id) 인덱스로 10건만 조회
+ * - 결과는 cache-ttl 동안 캐시하고, 만료 후 동시에 들어온 요청은 1건만 DB 를 조회하고 나머지는 그 결과를 기다림 (single-flight)
+ */
+@Service
+public class DashboardService {
+
+    private static final String CACHE_KEY = "dashboard";
+
+    private final ReviewRepository reviewRepository;
+    private final Cache<String, Map<String, Object>> cache;
+
+    public DashboardService(ReviewRepository reviewRepository,
+                            @Value("${dashboard.cache-ttl:5s}") Duration cacheTtl) {
+        this.reviewRepository = reviewRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 대시보드 요약 (캐시된 값은 읽기 전용으로 공유)
+     */
+    public Map<String, Object> getDashboard() {
+        return cache.get(CACHE_KEY, key -> load());
+    }
+
+    private Map<String, Object> load() {
+        ReviewRepository.DashboardCounts counts = reviewRepository.getDashboardCounts();
+        List<Map<String, Object>> recentReviews = reviewRepository.findTop10ByOrderByCreatedAtDescReviewIdDesc().stream()
+                .map(ReviewResponse::from)
+                .toList();
+
+        Map<String, Object> dashboard = new HashMap<>();
+        dashboard.put("totalReviews", counts.getTotalReviews());
+        dashboard.put("totalUsers", counts.getTotalUsers());
+        dashboard.put("totalStores", counts.getTotalStores());
+        dashboard.put("totalKeywords", counts.getTotalKeywords());
+        dashboard.put("sentimentStats", Map.of(
+                "positive", counts.getPositiveReviews(),
+                "negative", counts.getNegativeReviews(),
+                "neutral", counts.getNeutralReviews()
+        ));
+        dashboard.put("recentReviews", recentReviews);
+        return Map.copyOf(dashboard);
+    }
+}
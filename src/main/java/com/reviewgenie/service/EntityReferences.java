@@ -0,0 +1,39 @@
+package com.reviewgenie.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * [NEW] 적재 중 FK 참조용 엔티티 참조 캐시
+ * - 존재하는 ID 목록을 적재 시작 시 1회 조회해 두고, 행마다 findById 대신 ID 존재 여부만 메모리에서 확인
+ * - 반환값은 getReferenceById 프록시 (FK 값만 필요하므로 SELECT 없음)
+ */
+final class EntityReferences<T> {
+
+    private final String entityName;
+    private final Set<Long> ids;
+    private final LongFunction<T> getReference;
+
+    EntityReferences(String entityName, Collection<Long> ids, LongFunction<T> getReference) {
+        this.entityName = entityName;
+        this.ids = new HashSet<>(ids);
+        this.getReference = getReference;
+    }
+
+    /**
+     * ID 에 해당하는 엔티티 참조 (없는 ID 면 findById(...).orElseThrow() 와 같이 NoSuchElementException)
+     */
+    T get(long id) {
+        if (!ids.contains(id)) {
+            throw new NoSuchElementException(entityName + " not found: " + id);
+        }
+        return getReference.apply(id);
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
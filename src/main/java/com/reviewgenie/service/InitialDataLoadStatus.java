@@ -0,0 +1,65 @@
+package com.reviewgenie.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [NEW] 초기 데이터 적재 상태 (readiness)
+ * - 애플리케이션 시작 시점부터 LOADING, 적재가 끝나면 READY(전체 성공) 또는 DEGRADED(일부 단계 실패)
+ * - LOADING 동안 데이터 API 는 503 (DataReadinessInterceptor), 헬스 체크/분석 API 는 바로 응답
+ */
+@Component
+public class InitialDataLoadStatus {
+
+    public enum State { LOADING, READY, DEGRADED }
+
+    private volatile State state = State.LOADING;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile List<LoadStageExecutor.StageResult> stageResults = List.of();
+
+    public void markStarted() {
+        startedAt = LocalDateTime.now();
+    }
+
+    public void markCompleted(List<LoadStageExecutor.StageResult> results) {
+        stageResults = List.copyOf(results);
+        completedAt = LocalDateTime.now();
+        state = results.stream().allMatch(result -> result.status() == LoadStageExecutor.Status.SUCCESS)
+                ? State.READY
+                : State.DEGRADED;
+    }
+
+    /**
+     * 적재가 끝났는지 (일부 단계가 실패했더라도 끝났으면 데이터 API 허용)
+     */
+    public boolean isCompleted() {
+        return state != State.LOADING;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("status", state.name());
+        status.put("startedAt", startedAt);
+        status.put("completedAt", completedAt);
+        status.put("stages", stageResults.stream()
+                .map(result -> {
+                    Map<String, Object> stage = new HashMap<>();
+                    stage.put("name", result.name());
+                    stage.put("status", result.status().name());
+                    stage.put("elapsedMillis", result.elapsedMillis());
+                    stage.put("error", result.error());
+                    return stage;
+                })
+                .toList());
+        return status;
+    }
+}
@@ -0,0 +1,56 @@
+package com.reviewgenie.service;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+
+/**
+ * [NEW] 대량 INSERT 도우미 (초기 데이터 로드용)
+ * - 한 트랜잭션 안에서 persist 하고 batch-size 건마다 flush/clear
+ *   → Hibernate JDBC 배치(hibernate.jdbc.batch_size)로 묶어 전송하고 영속성 컨텍스트는 작게 유지
+ * - 시퀀스 ID 엔티티에서만 배치로 묶임 (IDENTITY 는 persist 시점에 바로 INSERT 됨)
+ */
+@Component
+public class JpaBatchInserter {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public JpaBatchInserter(EntityManager entityManager,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * source 의 각 항목을 엔티티로 변환하여 저장 (전체가 하나의 트랜잭션, 실패 시 전체 롤백)
+     * - toEntity 안에서 조회한 연관 엔티티도 flush/clear 시 함께 분리되므로, 다음 배치에서는 다시 조회해야 함
+     * @return 저장한 건수
+     */
+    public <S> int insertAll(Iterable<S> source, Function<? super S, ?> toEntity) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (S item : source) {
+                entityManager.persist(toEntity.apply(item));
+                if (++count % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return count;
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
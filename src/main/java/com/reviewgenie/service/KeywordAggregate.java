@@ -0,0 +1,122 @@
+package com.reviewgenie.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 리뷰의 분석 결과를 합친 키워드/감성 집계
+ * - 일괄 분석 시 작업 단위별로 누적 후 merge 로 병합 (스레드 간 공유하지 않음)
+ */
+public final class KeywordAggregate {
+
+    private static final int TOP_GENERAL_KEYWORDS = 20;
+
+    private long reviewCount;
+    private final Map<String, Long> sentimentCounts = new HashMap<>();
+    private final Map<String, Long> keyTermCounts = new HashMap<>();
+    private final Map<String, Long> generalKeywordCounts = new HashMap<>();
+    // 핵심 키워드별 {POSITIVE, NEGATIVE} 카운트
+    private final Map<String, int[]> keyTermSentimentCounts = new HashMap<>();
+
+    /**
+     * 리뷰 1건의 분석 결과 누적
+     */
+    @SuppressWarnings("unchecked")
+    void add(String sentiment, Map<String, Object> keywordRankings,
+             Map<String, Map<String, Integer>> keyTermSentiment) {
+        reviewCount++;
+        sentimentCounts.merge(sentiment, 1L, Long::sum);
+
+        Map<String, Long> keyTerms = (Map<String, Long>) keywordRankings.get("keyTermsCount");
+        keyTerms.forEach((term, count) -> keyTermCounts.merge(term, count, Long::sum));
+
+        List<Map.Entry<String, Long>> generalRank = (List<Map.Entry<String, Long>>) keywordRankings.get("generalKeywordsRank");
+        for (Map.Entry<String, Long> entry : generalRank) {
+            generalKeywordCounts.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+
+        keyTermSentiment.forEach((term, counts) -> {
+            int[] merged = keyTermSentimentCounts.computeIfAbsent(term, k -> new int[2]);
+            merged[0] += counts.getOrDefault("POSITIVE", 0);
+            merged[1] += counts.getOrDefault("NEGATIVE", 0);
+        });
+    }
+
+    /**
+     * 다른 집계를 이 집계에 병합
+     */
+    void merge(KeywordAggregate other) {
+        reviewCount += other.reviewCount;
+        other.sentimentCounts.forEach((k, v) -> sentimentCounts.merge(k, v, Long::sum));
+        other.keyTermCounts.forEach((k, v) -> keyTermCounts.merge(k, v, Long::sum));
+        other.generalKeywordCounts.forEach((k, v) -> generalKeywordCounts.merge(k, v, Long::sum));
+        other.keyTermSentimentCounts.forEach((term, counts) -> {
+            int[] merged = keyTermSentimentCounts.computeIfAbsent(term, k -> new int[2]);
+            merged[0] += counts[0];
+            merged[1] += counts[1];
+        });
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public Map<String, Long> getSentimentCounts() {
+        return Collections.unmodifiableMap(sentimentCounts);
+    }
+
+    public Map<String, Long> getKeyTermCounts() {
+        return Collections.unmodifiableMap(keyTermCounts);
+    }
+
+    public Map<String, Long> getGeneralKeywordCounts() {
+        return Collections.unmodifiableMap(generalKeywordCounts);
+    }
+
+    public int getPositiveCount(String keyTerm) {
+        int[] counts = keyTermSentimentCounts.get(keyTerm);
+        return counts != null ? counts[0] : 0;
+    }
+
+    public int getNegativeCount(String keyTerm) {
+        int[] counts = keyTermSentimentCounts.get(keyTerm);
+        return counts != null ? counts[1] : 0;
+    }
+
+    /**
+     * 빈도순 상위 일반 키워드
+     */
+    public List<Map.Entry<String, Long>> getTopGeneralKeywords(int limit) {
+        return generalKeywordCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * API 응답용 변환
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Map<String, Integer>> keyTermSentiment = new LinkedHashMap<>();
+        keyTermSentimentCounts.forEach((term, counts) ->
+                keyTermSentiment.put(term, Map.of("POSITIVE", counts[0], "NEGATIVE", counts[1])));
+
+        List<Map<String, Object>> topGeneralKeywords = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : getTopGeneralKeywords(TOP_GENERAL_KEYWORDS)) {
+            topGeneralKeywords.add(Map.of("keyword", entry.getKey(), "frequency", entry.getValue()));
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("reviewCount", reviewCount);
+        result.put("sentimentCounts", sentimentCounts);
+        result.put("keyTermCounts", keyTermCounts);
+        result.put("keyTermSentiment", keyTermSentiment);
+        result.put("topGeneralKeywords", topGeneralKeywords);
+        return result;
+    }
+}
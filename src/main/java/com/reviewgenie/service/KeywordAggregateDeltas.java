@@ -0,0 +1,221 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.domain.Keyword;
+import com.reviewgenie.repository.KeywordRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * [NEW] 리뷰 저장 시 매장별 키워드 집계(TopGeneralKeyword / CoreKeywordSentiment) 증분 반영
+ * - 저장된 리뷰 1건의 일반 키워드 빈도와 핵심 키워드별 POSITIVE/NEGATIVE 건수를 리뷰 ID 와 함께 매장별로 누적
+ * - delta-flush-interval 마다 누적분을 한 트랜잭션에서 기존 행에 더해 반영 (리뷰 테이블 재조회 없음)
+ *   · 일반 키워드는 이미 상위 키워드 행이 있는 키워드만 빈도를 더함 (상위 N 개 구성은 KeywordAggregationJob 이 다시 계산)
+ *   · 핵심 키워드 감정은 (매장, 키워드) upsert
+ * - KeywordAggregationJob 이 매장을 다시 계산하면, 스캔한 마지막 리뷰 ID 이하의 누적분은 버림 (이중 반영 방지)
+ *   → 교체와 flush 는 동시에 실행되지 않음 (스캔 도중 커밋된 더 작은 ID 의 리뷰는 다음 집계에서 반영)
+ * - 반영 실패 시 누적분을 되돌려 다음 주기에 다시 시도
+ * - 단건 저장(ReviewAnalysisService.saveReview)만 누적함. 대량 적재(초기 데이터 로더, ReviewIngestionPipeline)로 저장한 리뷰는
+ *   누적하지 않으므로 적재 후 KeywordAggregationJob(cron 또는 POST /api/keywords/aggregate)을 실행해야 집계에 반영됨
+ */
+@Component
+public class KeywordAggregateDeltas {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(KeywordAggregateDeltas.class);
+
+    private static final String ADD_TOP_GENERAL_KEYWORD_SQL =
+            "UPDATE top_general_keyword SET frequency = frequency + ?, last_updated = ? WHERE store_id = ? AND keyword = ?";
+    private static final String ADD_CORE_KEYWORD_SENTIMENT_SQL =
+            "INSERT INTO core_keyword_sentiment (sentiment_id, store_id, keyword_id, positive_count, negative_count, last_updated) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (store_id, keyword_id) DO UPDATE SET "
+                    + "positive_count = core_keyword_sentiment.positive_count + EXCLUDED.positive_count, "
+                    + "negative_count = core_keyword_sentiment.negative_count + EXCLUDED.negative_count, "
+                    + "last_updated = EXCLUDED.last_updated";
+
+    private final KoreanNLPService koreanNLPService;
+    private final KeywordRepository keywordRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 아직 반영하지 않은 리뷰 1건의 누적분
+     */
+    private record PendingReview(long reviewId, KeywordAggregate delta) {
+    }
+
+    private final Object lock = new Object();
+    // 매장 ID → 아직 반영하지 않은 리뷰별 누적분 (lock 으로 보호, flush 시 통째로 교체)
+    private Map<Long, List<PendingReview>> pending = new HashMap<>();
+    // 매장 ID → 집계 작업이 다시 계산한 마지막 리뷰 ID (lock 으로 보호, 이하의 누적분은 반영하지 않음)
+    private final Map<Long, Long> aggregatedUpTo = new HashMap<>();
+    // flush(write) 와 집계 작업의 매장 교체(read) 가 동시에 실행되지 않도록 함 (교체끼리는 동시 실행 가능)
+    private final ReadWriteLock tableLock = new ReentrantReadWriteLock();
+
+    public KeywordAggregateDeltas(KoreanNLPService koreanNLPService,
+                                  KeywordRepository keywordRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate) {
+        this.koreanNLPService = koreanNLPService;
+        this.keywordRepository = keywordRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 리뷰 1건의 키워드 집계 누적 (트랜잭션 안이면 커밋된 뒤에만 누적)
+     */
+    public void recordAfterCommit(Long storeId, Long reviewId, String content, String sentiment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(storeId, reviewId, content, sentiment);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(storeId, reviewId, content, sentiment);
+            }
+        });
+    }
+
+    private void record(Long storeId, Long reviewId, String content, String sentiment) {
+        // 형태소 분석은 잠금 밖에서 수행
+        AnalyzedText document = koreanNLPService.analyze(content);
+        KeywordAggregate delta = new KeywordAggregate();
+        delta.add(sentiment, koreanNLPService.extractKeywordRankings(document), koreanNLPService.analyzeSentimentByKeyTerms(document));
+        synchronized (lock) {
+            if (reviewId <= aggregatedUpTo.getOrDefault(storeId, 0L)) {
+                return;
+            }
+            pending.computeIfAbsent(storeId, id -> new ArrayList<>()).add(new PendingReview(reviewId, delta));
+        }
+    }
+
+    /**
+     * 집계 작업의 매장 교체 (flush 와 동시에 실행되지 않음)
+     * - 교체가 성공하면 scannedUpTo 이하 리뷰의 누적분은 이미 교체 결과에 포함되어 있으므로 버림
+     */
+    void replaceStore(Long storeId, long scannedUpTo, Runnable replace) {
+        tableLock.readLock().lock();
+        try {
+            replace.run();
+            synchronized (lock) {
+                aggregatedUpTo.merge(storeId, scannedUpTo, Math::max);
+                List<PendingReview> reviews = pending.get(storeId);
+                if (reviews != null) {
+                    reviews.removeIf(review -> review.reviewId() <= scannedUpTo);
+                    if (reviews.isEmpty()) {
+                        pending.remove(storeId);
+                    }
+                }
+            }
+        } finally {
+            tableLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 누적분 반영 (delta-flush-interval 주기, 종료 시 1회)
+     */
+    @Scheduled(fixedDelayString = "${keyword-aggregation.delta-flush-interval:5s}")
+    @PreDestroy
+    public void flush() {
+        tableLock.writeLock().lock();
+        try {
+            Map<Long, List<PendingReview>> reviews;
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                reviews = pending;
+                pending = new HashMap<>();
+            }
+            try {
+                long reviewCount = write(merge(reviews));
+                log.debug("🔄 키워드 집계 증분 반영: 매장 {}곳, 리뷰 {}건", reviews.size(), reviewCount);
+            } catch (RuntimeException e) {
+                log.error("❌ 키워드 집계 증분 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+                synchronized (lock) {
+                    reviews.forEach((storeId, failed) -> pending.computeIfAbsent(storeId, id -> new ArrayList<>()).addAll(failed));
+                }
+            }
+        } finally {
+            tableLock.writeLock().unlock();
+        }
+    }
+
+    private static Map<Long, KeywordAggregate> merge(Map<Long, List<PendingReview>> reviews) {
+        Map<Long, KeywordAggregate> deltas = new HashMap<>();
+        reviews.forEach((storeId, storeReviews) -> {
+            KeywordAggregate delta = new KeywordAggregate();
+            storeReviews.forEach(review -> delta.merge(review.delta()));
+            deltas.put(storeId, delta);
+        });
+        return deltas;
+    }
+
+    /**
+     * 매장/키워드 순서로 정렬해 반영 (동시에 반영하는 다른 트랜잭션과 잠금 순서를 맞춤)
+     * @return 반영한 리뷰 수
+     */
+    private long write(Map<Long, KeywordAggregate> deltas) {
+        Map<String, Long> keywordIds = new TreeMap<>();
+        for (Keyword keyword : keywordRepository.findAll()) {
+            keywordIds.put(keyword.getKeywordName(), keyword.getKeywordId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> topRows = new ArrayList<>();
+        List<Object[]> sentimentRows = new ArrayList<>();
+        long reviewCount = 0;
+        for (Map.Entry<Long, KeywordAggregate> entry : new TreeMap<>(deltas).entrySet()) {
+            Long storeId = entry.getKey();
+            KeywordAggregate delta = entry.getValue();
+            reviewCount += delta.getReviewCount();
+            new TreeMap<>(delta.getGeneralKeywordCounts()).forEach((keyword, frequency) ->
+                    topRows.add(new Object[] { frequency.intValue(), now, storeId, keyword }));
+            keywordIds.forEach((keyword, keywordId) -> {
+                int positive = delta.getPositiveCount(keyword);
+                int negative = delta.getNegativeCount(keyword);
+                if (positive > 0 || negative > 0) {
+                    sentimentRows.add(new Object[] { null, storeId, keywordId, positive, negative, now });
+                }
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!topRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(ADD_TOP_GENERAL_KEYWORD_SQL, topRows);
+            }
+            upsert(ADD_CORE_KEYWORD_SENTIMENT_SQL, "core_keyword_sentiment_sentiment_id_seq", sentimentRows);
+        });
+        return reviewCount;
+    }
+
+    // 첫 번째 값(ID)은 시퀀스에서 선할당 (이미 있는 행이면 사용되지 않음)
+    private void upsert(String sql, String idSequence, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long[] ids = jdbcTemplate.execute((ConnectionCallback<long[]>) connection ->
+                PooledSequenceIds.allocate(connection, idSequence, rows.size()));
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i)[0] = ids[i];
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+}
@@ -0,0 +1,257 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.domain.Keyword;
+import com.reviewgenie.repository.KeywordRepository;
+import com.reviewgenie.repository.ReviewRepository;
+import com.reviewgenie.repository.StoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [NEW] 저장된 리뷰로 매장별 TopGeneralKeyword / CoreKeywordSentiment 를 다시 계산하는 집계 작업
+ * - 매장별 리뷰를 reviewId 순으로 chunk-size 건씩 읽어 KeywordAggregate 에 누적 (매장 리뷰 전체를 메모리에 올리지 않음)
+ * - 매장 단위로 [기존 행 삭제 + 새 결과 배치 INSERT] 를 한 트랜잭션으로 교체
+ *   (core_keyword_sentiment 는 언급이 있는(긍정 + 부정 > 0) 핵심 키워드만 저장 - 초기 데이터/증분 반영과 동일)
+ *   (KeywordAggregateDeltas 의 증분 반영과 동시에 실행하지 않고, 스캔한 리뷰의 대기 중인 증분은 버림)
+ * - 매장끼리는 parallelism 개 스레드에서 동시에 집계, cron 주기 실행 또는 POST /api/keywords/aggregate 로 수동 실행
+ */
+@Component
+public class KeywordAggregationJob {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(KeywordAggregationJob.class);
+
+    private static final String DELETE_TOP_GENERAL_KEYWORDS_SQL = "DELETE FROM top_general_keyword WHERE store_id = ?";
+    private static final String INSERT_TOP_GENERAL_KEYWORD_SQL =
+            "INSERT INTO top_general_keyword (top_keyword_id, store_id, keyword, frequency, last_updated) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_CORE_KEYWORD_SENTIMENTS_SQL = "DELETE FROM core_keyword_sentiment WHERE store_id = ?";
+    private static final String INSERT_CORE_KEYWORD_SENTIMENT_SQL =
+            "INSERT INTO core_keyword_sentiment (sentiment_id, store_id, keyword_id, positive_count, negative_count, last_updated) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 매장 1곳의 집계 결과 (coreKeywords: 저장한 핵심 키워드 감성 행 수, 실패 시 error 에 사유)
+     */
+    public record StoreResult(Long storeId, long reviewCount, int topKeywords, int coreKeywords, long elapsedMillis, String error) {
+    }
+
+    /**
+     * 매장 리뷰 스캔 결과 (lastReviewId: 스캔한 마지막 리뷰 ID, 리뷰가 없으면 0)
+     */
+    private record Scan(KeywordAggregate aggregate, long lastReviewId) {
+    }
+
+    /**
+     * 매장 1곳의 핵심 키워드 감성 행
+     */
+    private record CoreKeywordRow(Long keywordId, int positiveCount, int negativeCount) {
+    }
+
+    private final StoreRepository storeRepository;
+    private final ReviewRepository reviewRepository;
+    private final KeywordRepository keywordRepository;
+    private final KoreanNLPService koreanNLPService;
+    private final KeywordAggregateDeltas keywordAggregateDeltas;
+    private final InitialDataLoadStatus initialDataLoadStatus;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int topKeywords;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public KeywordAggregationJob(StoreRepository storeRepository,
+                                 ReviewRepository reviewRepository,
+                                 KeywordRepository keywordRepository,
+                                 KoreanNLPService koreanNLPService,
+                                 KeywordAggregateDeltas keywordAggregateDeltas,
+                                 InitialDataLoadStatus initialDataLoadStatus,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${keyword-aggregation.parallelism:0}") int parallelism,
+                                 @Value("${keyword-aggregation.chunk-size:500}") int chunkSize,
+                                 @Value("${keyword-aggregation.top-keywords:20}") int topKeywords) {
+        this.storeRepository = storeRepository;
+        this.reviewRepository = reviewRepository;
+        this.keywordRepository = keywordRepository;
+        this.koreanNLPService = koreanNLPService;
+        this.keywordAggregateDeltas = keywordAggregateDeltas;
+        this.initialDataLoadStatus = initialDataLoadStatus;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.topKeywords = Math.max(topKeywords, 1);
+    }
+
+    /**
+     * 주기 실행 (keyword-aggregation.cron, 기본 "-" 는 비활성화)
+     * - 초기 데이터 적재 중이거나 이미 실행 중이면 이번 주기는 건너뜀
+     */
+    @Scheduled(cron = "${keyword-aggregation.cron:-}")
+    public void runScheduled() {
+        if (!initialDataLoadStatus.isCompleted()) {
+            log.info("⏭️ 초기 데이터 적재 중이어서 키워드 집계를 건너뜁니다.");
+            return;
+        }
+        try {
+            aggregateAllStores();
+        } catch (IllegalStateException e) {
+            log.warn("⏭️ {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 매장 집계 (끝날 때까지 대기, 한 번에 하나만 실행)
+     */
+    public List<StoreResult> aggregateAllStores() {
+        return aggregateStores(storeRepository.findAllIds());
+    }
+
+    /**
+     * 매장 1곳 집계
+     */
+    public StoreResult aggregateStore(Long storeId) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new IllegalArgumentException("Store not found: " + storeId);
+        }
+        return aggregateStores(List.of(storeId)).get(0);
+    }
+
+    private List<StoreResult> aggregateStores(List<Long> storeIds) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("키워드 집계가 이미 실행 중입니다.");
+        }
+        long start = System.currentTimeMillis();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(storeIds.size(), 1)), runnable -> {
+            Thread thread = new Thread(runnable, "keyword-aggregation-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<String, Long> keywordIds = new HashMap<>();
+            for (Keyword keyword : keywordRepository.findAll()) {
+                keywordIds.put(keyword.getKeywordName(), keyword.getKeywordId());
+            }
+
+            List<CompletableFuture<StoreResult>> futures = new ArrayList<>(storeIds.size());
+            for (Long storeId : storeIds) {
+                futures.add(CompletableFuture.supplyAsync(() -> aggregate(storeId, keywordIds), executor));
+            }
+            List<StoreResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+            long failed = results.stream().filter(result -> result.error() != null).count();
+            log.info("✅ 키워드 집계 완료: 매장 {}곳 (실패 {}곳), 리뷰 {}건, {}ms",
+                    results.size(), failed, results.stream().mapToLong(StoreResult::reviewCount).sum(),
+                    System.currentTimeMillis() - start);
+            return results;
+        } finally {
+            executor.shutdown();
+            running.set(false);
+        }
+    }
+
+    private StoreResult aggregate(Long storeId, Map<String, Long> keywordIds) {
+        long start = System.currentTimeMillis();
+        try {
+            Scan scan = scan(storeId);
+            KeywordAggregate aggregate = scan.aggregate();
+            List<Map.Entry<String, Long>> topGeneralKeywords = aggregate.getTopGeneralKeywords(topKeywords);
+            List<CoreKeywordRow> coreKeywords = coreKeywordRows(aggregate, keywordIds);
+            keywordAggregateDeltas.replaceStore(storeId, scan.lastReviewId(),
+                    () -> replace(storeId, topGeneralKeywords, coreKeywords));
+            return new StoreResult(storeId, aggregate.getReviewCount(), topGeneralKeywords.size(), coreKeywords.size(),
+                    System.currentTimeMillis() - start, null);
+        } catch (Exception e) {
+            log.error("❌ 매장 {} 키워드 집계 실패: {}", storeId, e.getMessage());
+            return new StoreResult(storeId, 0, 0, 0, System.currentTimeMillis() - start, e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 리뷰를 청크 단위로 읽어 키워드 빈도/핵심 키워드 감성 누적 (감성은 저장된 리뷰 감성 사용)
+     */
+    private Scan scan(Long storeId) {
+        KeywordAggregate aggregate = new KeywordAggregate();
+        PageRequest page = PageRequest.of(0, chunkSize);
+        long afterId = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = reviewRepository.findChunkByStoreId(storeId, afterId, page);
+            for (Object[] row : chunk) {
+                AnalyzedText document = koreanNLPService.analyze((String) row[1]);
+                aggregate.add(Objects.toString(row[2], "NEUTRAL"),
+                        koreanNLPService.extractKeywordRankings(document),
+                        koreanNLPService.analyzeSentimentByKeyTerms(document));
+                afterId = (Long) row[0];
+            }
+        } while (chunk.size() == chunkSize);
+        return new Scan(aggregate, afterId);
+    }
+
+    /**
+     * 언급이 있는 핵심 키워드만 (긍정/부정 모두 0 이면 행을 만들지 않음)
+     */
+    private static List<CoreKeywordRow> coreKeywordRows(KeywordAggregate aggregate, Map<String, Long> keywordIds) {
+        List<CoreKeywordRow> rows = new ArrayList<>();
+        for (Map.Entry<String, Long> keyword : keywordIds.entrySet()) {
+            int positive = aggregate.getPositiveCount(keyword.getKey());
+            int negative = aggregate.getNegativeCount(keyword.getKey());
+            if (positive + negative > 0) {
+                rows.add(new CoreKeywordRow(keyword.getValue(), positive, negative));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 매장의 집계 결과를 한 트랜잭션에서 교체 (ID 는 엔티티 시퀀스에서 선할당)
+     */
+    private void replace(Long storeId, List<Map.Entry<String, Long>> topGeneralKeywords, List<CoreKeywordRow> coreKeywords) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_TOP_GENERAL_KEYWORDS_SQL, storeId);
+            jdbcTemplate.update(DELETE_CORE_KEYWORD_SENTIMENTS_SQL, storeId);
+
+            long[] topKeywordIds = allocateIds("top_general_keyword_top_keyword_id_seq", topGeneralKeywords.size());
+            List<Object[]> topRows = new ArrayList<>(topGeneralKeywords.size());
+            for (int i = 0; i < topGeneralKeywords.size(); i++) {
+                Map.Entry<String, Long> entry = topGeneralKeywords.get(i);
+                topRows.add(new Object[] { topKeywordIds[i], storeId, entry.getKey(), entry.getValue().intValue(), now });
+            }
+            jdbcTemplate.batchUpdate(INSERT_TOP_GENERAL_KEYWORD_SQL, topRows);
+
+            long[] sentimentIds = allocateIds("core_keyword_sentiment_sentiment_id_seq", coreKeywords.size());
+            List<Object[]> sentimentRows = new ArrayList<>(coreKeywords.size());
+            for (int i = 0; i < coreKeywords.size(); i++) {
+                CoreKeywordRow row = coreKeywords.get(i);
+                sentimentRows.add(new Object[] { sentimentIds[i], storeId, row.keywordId(),
+                        row.positiveCount(), row.negativeCount(), now });
+            }
+            jdbcTemplate.batchUpdate(INSERT_CORE_KEYWORD_SENTIMENT_SQL, sentimentRows);
+        });
+    }
+
+    private long[] allocateIds(String sequence, int count) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection ->
+                PooledSequenceIds.allocate(connection, sequence, count));
+    }
+}
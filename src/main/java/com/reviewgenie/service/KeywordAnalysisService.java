@@ -73,13 +73,15 @@ public class KeywordAnalysisService {
         Keyword keyword = keywordRepository.findById(keywordId)
                 .orElseThrow(() -> new RuntimeException("Keyword not found"));
         
-        CoreKeywordSentiment sentiment = CoreKeywordSentiment.builder()
-                .store(store)
-                .keyword(keyword)
-                .positiveCount(positiveCount)
-                .negativeCount(negativeCount)
-                .lastUpdated(LocalDateTime.now())
-                .build();
+        // (store, keyword) 당 1행 - 이미 있으면 갱신
+        CoreKeywordSentiment sentiment = coreKeywordSentimentRepository.findByStoreIdAndKeywordId(storeId, keywordId)
+                .orElseGet(() -> CoreKeywordSentiment.builder()
+                        .store(store)
+                        .keyword(keyword)
+                        .build());
+        sentiment.setPositiveCount(positiveCount);
+        sentiment.setNegativeCount(negativeCount);
+        sentiment.setLastUpdated(LocalDateTime.now());
         
         coreKeywordSentimentRepository.save(sentiment);
     }
@@ -3,11 +3,16 @@
 package com.reviewgenie.service;
 
 import com.reviewgenie.repository.KeywordRepository;
+import com.reviewgenie.util.AhoCorasickMatcher;
+import com.reviewgenie.util.KoreanTokenizer;
+import com.reviewgenie.util.KoreanTokenizer.TextSpans;
+import com.reviewgenie.util.SuffixTrie;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
 
 @Service
@@ -15,6 +20,10 @@ import java.util.stream.Collectors;
 public class KoreanNLPService {
 
     private final KeywordRepository keywordRepository; // 생성자에서 필요 (현재 미사용이지만 추후 확장 가능)
+    private final ForkJoinPool koreanAnalysisPool; // [NEW] 일괄 분석 전용 풀 (NLPConfig)
+
+    // [NEW] 일괄 분석 시 한 작업이 직접 처리하는 최대 리뷰 수 (초과 시 분할)
+    private static final int BATCH_SPLIT_THRESHOLD = 32;
 
     // [MODIFIED] 핵심 키워드 리스트
     private static final Set<String> KEY_TERMS = Set.of(
@@ -51,6 +60,24 @@ public class KoreanNLPService {
             "아쉬", "하지만", "그런데", "다만", "그러나", "근데", "안타깝", "아깝", "그럼에도", "차라리", "오히려"
     );
 
+    // [NEW] 문장 전체 감성 판단용 일반 긍정/부정 감성어 사전
+    private static final Set<String> GENERAL_POSITIVE_WORDS = Set.of(
+            "좋", "훌륭", "최고", "만족", "추천", "괜찮", "맛있", "친절", "깨끗", "빠르", "편리", "감사", "완벽", "멋지", "사랑", "기쁘", "행복", "즐거", "재미", "신선", "맛", "품질", "서비스"
+    );
+
+    private static final Set<String> GENERAL_NEGATIVE_WORDS = Set.of(
+            "나쁘", "최악", "불만", "별로", "싫", "맛없", "실망", "짜증", "불친절", "더럽", "느리", "불편", "화나", "문제", "오류", "고장", "비싸", "늦", "틀리", "잘못", "부족", "어려", "복잡", "답답"
+    );
+
+    // [NEW] 감성어 매칭 결과 비트마스크 (일반 긍정/부정, 부정 맥락어, 키워드별 긍정/부정)
+    private static final int GENERAL_POSITIVE_MASK = 1;
+    private static final int GENERAL_NEGATIVE_MASK = 1 << 1;
+    private static final int NEGATIVE_CONTEXT_MASK = 1 << 2;
+    private static final List<String> KEY_TERM_ORDER = KEY_TERMS.stream().sorted().collect(Collectors.toList());
+
+    // [NEW] 모든 감성어 사전을 하나로 합친 Aho-Corasick 매처 (토큰 × 사전 반복 대신 1회 선형 스캔)
+    private static final AhoCorasickMatcher LEXICON_MATCHER = buildLexiconMatcher();
+
     // [NEW] 키워드에서 제외할 불용어 확장 (명사 위주 추출을 위한 비명사 단어들 제외)
     private static final Set<String> STOP_WORDS = Set.of(
             // 대명사, 수사, 조사 등
@@ -70,27 +97,104 @@ public class KoreanNLPService {
             "이런", "그런", "저런", "어떤", "무슨", "같은", "다른", "새로운"
     );
 
+    // [NEW] 동사/형용사 어미 (명사 판별 시 이 어미로 끝나는 단어 제외)
+    private static final Set<String> NON_NOUN_ENDINGS = Set.of(
+            "다", "하다", "되다", "있다", "없다", "시다", "려고", "면서", "으며", "지만", "거나", "든지", "라도", "부터", "까지", "에서",
+            "으로", "이다", "아니다", "이야", "이네", "이에요", "어요", "아요", "습니다", "ㅂ니다", "하네", "하지", "하더", "하면", "하고",
+            "해서", "했다", "할까", "했어", "했네", "했지", "했더", "했으", "했는", "했던", "한다", "한데", "한테", "한테서", "하려", "하자",
+            "하기", "한번", "할때", "할수", "한것", "한거", "한지", "했을", "할지", "할것", "하는중", "하고있", "해보", "해야", "해도",
+            "했지만", "했으면", "했었다", "했었어", "했었지", "했었더", "에요", "어서", "어도", "니다", "입니다", "합니다", "길어서", "좋아서",
+            "깔끔하게", "잘"
+    );
 
-    
-    // [NEW] 명사 패턴 정의 (한글로 이루어진 2글자 이상의 단어)
-    private static final Pattern NOUN_PATTERN = Pattern.compile("^[가-힣]{2,}$");
-    
-    // [NEW] 동사/형용사 어미 패턴 확장
-    private static final Pattern NON_NOUN_PATTERN = Pattern.compile(".*(다|하다|되다|있다|없다|시다|려고|면서|으며|지만|거나|든지|라도|부터|까지|에서|으로|이다|아니다|이야|이네|이에요|어요|아요|습니다|ㅂ니다|하네|하지|하더|하면|하고|해서|했다|할까|했어|했네|했지|했더|했으|했는|했던|한다|한데|한테|한테서|하려|하자|하기|한번|할때|할수|한것|한거|한지|했을|했던|할지|할것|하는중|하고있|해보|해야|해도|했지만|했으면|했었다|했었어|했었지|했었더|에요|어서|어도|니다|입니다|합니다|길어서|좋아서|깔끔하게|잘)$");
+    // [NEW] 명사 뒤에 붙는 조사 (정규화 시 제거)
+    private static final Set<String> NOUN_PARTICLES = Set.of("도", "나", "는", "은", "이", "가", "을", "를");
+
+    // [NEW] 어미/조사 역방향 접미사 트라이 (단어 끝 몇 글자만 거꾸로 확인)
+    private static final SuffixTrie NON_NOUN_ENDING_TRIE = SuffixTrie.of(NON_NOUN_ENDINGS);
+    private static final SuffixTrie NOUN_PARTICLE_TRIE = SuffixTrie.of(NOUN_PARTICLES);
+
+    /**
+     * [NEW] 감성어 사전 전체를 하나의 오토마톤으로 컴파일
+     */
+    private static AhoCorasickMatcher buildLexiconMatcher() {
+        AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder()
+                .addAll(GENERAL_POSITIVE_WORDS, GENERAL_POSITIVE_MASK)
+                .addAll(GENERAL_NEGATIVE_WORDS, GENERAL_NEGATIVE_MASK)
+                .addAll(NEGATIVE_CONTEXT_WORDS, NEGATIVE_CONTEXT_MASK);
+        for (String keyword : KEY_TERM_ORDER) {
+            builder.addAll(KEYWORD_POSITIVE_WORDS.getOrDefault(keyword, Set.of()), keywordPositiveMask(keyword));
+            builder.addAll(KEYWORD_NEGATIVE_WORDS.getOrDefault(keyword, Set.of()), keywordNegativeMask(keyword));
+        }
+        return builder.build();
+    }
+
+    /**
+     * [NEW] 키워드별 긍정 감성어 마스크
+     */
+    private static int keywordPositiveMask(String keyword) {
+        return 1 << (3 + KEY_TERM_ORDER.indexOf(keyword));
+    }
 
+    /**
+     * [NEW] 키워드별 부정 감성어 마스크
+     */
+    private static int keywordNegativeMask(String keyword) {
+        return 1 << (3 + KEY_TERM_ORDER.size() + KEY_TERM_ORDER.indexOf(keyword));
+    }
 
     /**
-     * 문장 부호 기준으로 텍스트를 문장 리스트로 분리
+     * [NEW] 텍스트를 1회 분석하여 AnalyzedText 생성
+     * - 문장 분리, 토큰 위치, 정규화 명사, 명사 여부, 감성어 매칭을 한 번에 계산
+     * - 같은 텍스트에 대해 여러 분석 메서드를 호출할 때 이 결과를 넘겨 재사용
      */
-    private List<String> splitSentences(String text) {
+    public AnalyzedText analyze(String text) {
         if (text == null || text.trim().isEmpty()) {
-            return new ArrayList<>();
+            return AnalyzedText.EMPTY;
         }
-        // 마침표, 물음표, 느낌표 및 줄바꿈을 기준으로 문장 분리
-        return Arrays.stream(text.split("[.!?\\n]+"))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+
+        // 1. 토큰/문장 경계 추출 (정규식 없이 1회 스캔)
+        TextSpans tokenSpans = KoreanTokenizer.tokenize(text);
+        TextSpans sentenceSpans = KoreanTokenizer.sentences(text);
+        int tokenCount = tokenSpans.size();
+
+        // 2. 토큰별 정규화/명사 여부/감성어 매칭
+        // (정규화 결과는 토큰의 접두어이므로 토큰 자체만 스캔해도 동일한 감성어가 발견됨)
+        int[] tokenStarts = new int[tokenCount];
+        int[] tokenEnds = new int[tokenCount];
+        String[] tokens = new String[tokenCount];
+        String[] normalizedTokens = new String[tokenCount];
+        boolean[] nounFlags = new boolean[tokenCount];
+        int[] lexiconMasks = new int[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokenStarts[i] = tokenSpans.start(i);
+            tokenEnds[i] = tokenSpans.end(i);
+            tokens[i] = tokenSpans.get(i);
+            normalizedTokens[i] = normalizeNoun(tokens[i]);
+            nounFlags[i] = isNoun(normalizedTokens[i]);
+            lexiconMasks[i] = LEXICON_MATCHER.match(text, tokenStarts[i], tokenEnds[i]);
+        }
+
+        // 3. 문장별 토큰 범위 계산 (토큰은 구분자/공백을 포함하지 않으므로 항상 한 문장에 속함)
+        int sentenceCount = sentenceSpans.size();
+        String[] sentences = new String[sentenceCount];
+        int[] sentenceTokenStarts = new int[sentenceCount];
+        int[] sentenceTokenEnds = new int[sentenceCount];
+        int tokenIndex = 0;
+        for (int s = 0; s < sentenceCount; s++) {
+            while (tokenIndex < tokenCount && tokenStarts[tokenIndex] < sentenceSpans.start(s)) {
+                tokenIndex++;
+            }
+            sentenceTokenStarts[s] = tokenIndex;
+            while (tokenIndex < tokenCount && tokenStarts[tokenIndex] < sentenceSpans.end(s)) {
+                tokenIndex++;
+            }
+            sentenceTokenEnds[s] = tokenIndex;
+            sentences[s] = sentenceSpans.get(s);
+        }
+
+        return new AnalyzedText(text, tokenStarts, tokenEnds, tokens, normalizedTokens, nounFlags,
+                lexiconMasks, sentences, sentenceTokenStarts, sentenceTokenEnds);
     }
 
     /**
@@ -101,27 +205,29 @@ public class KoreanNLPService {
         if (noun == null || noun.length() <= 1) {
             return noun;
         }
-        return noun.replaceAll("(도|나|는|은|이|가|을|를)$", "");
+        int particleLength = NOUN_PARTICLE_TRIE.longestMatch(noun, 0, noun.length());
+        return particleLength == 0 ? noun : noun.substring(0, noun.length() - particleLength);
     }
     
     /**
      * [NEW] 명사 여부 판별 메서드
      * 동사/형용사/부사 등을 필터링하고 명사만 추출
+     * - normalizeNoun 으로 조사가 제거된 단어를 받으며, 객체를 생성하지 않음
      */
-    private boolean isNoun(String word) {
-        if (word == null || word.trim().isEmpty()) {
-            return false;
-        }
-        
-        String normalizedWord = normalizeNoun(word.trim());
-        
+    private boolean isNoun(String normalizedWord) {
         // 1. 기본 패턴 체크: 한글 2글자 이상
-        if (!NOUN_PATTERN.matcher(normalizedWord).matches()) {
+        int length = normalizedWord.length();
+        if (length < 2) {
             return false;
         }
+        for (int i = 0; i < length; i++) {
+            if (!KoreanTokenizer.isHangulSyllable(normalizedWord.charAt(i))) {
+                return false;
+            }
+        }
         
-        // 2. 동사/형용사 어미 패턴 제외
-        if (NON_NOUN_PATTERN.matcher(normalizedWord).matches()) {
+        // 2. 동사/형용사 어미 제외 (끝에서부터 역방향 확인)
+        if (NON_NOUN_ENDING_TRIE.matches(normalizedWord)) {
             return false;
         }
         
@@ -130,11 +236,16 @@ public class KoreanNLPService {
             return false;
         }
         
-        // 4. 추가 필터링: 단순 반복 문자 제외
-        if (normalizedWord.matches("(.)\\1+")) { // 예: "ㅋㅋㅋ", "ㅎㅎㅎ"
-            return false;
+        // 4. 추가 필터링: 단순 반복 문자 제외 (예: "ㅋㅋㅋ", "ㅎㅎㅎ")
+        return !isRepeatedChar(normalizedWord);
+    }
+
+    private boolean isRepeatedChar(String word) {
+        for (int i = 1; i < word.length(); i++) {
+            if (word.charAt(i) != word.charAt(0)) {
+                return false;
+            }
         }
-        
         return true;
     }
 
@@ -142,22 +253,29 @@ public class KoreanNLPService {
      * 키워드 순위 분석 (명사 위주 추출, 핵심/일반 분리 및 정규화/불용어 처리 강화)
      */
     public Map<String, Object> extractKeywordRankings(String text) {
-        List<String> tokens = tokenizeSimple(text);
+        return extractKeywordRankings(analyze(text));
+    }
 
+    /**
+     * 키워드 순위 분석 (이미 분석된 텍스트 재사용)
+     */
+    public Map<String, Object> extractKeywordRankings(AnalyzedText document) {
         Map<String, Object> result = new HashMap<>();
 
-        if (tokens.isEmpty()) {
+        if (document.tokenCount() == 0) {
             result.put("keyTermsCount", new HashMap<>());
             result.put("generalKeywordsRank", new ArrayList<>());
             return result;
         }
 
-        // [MODIFIED] 명사 위주 필터링 및 정규화 강화
-        Map<String, Long> allFrequency = tokens.stream()
-                .filter(this::isNoun) // 명사 여부 판별 추가
-                .map(this::normalizeNoun) // 명사 정규화 적용
-                .filter(noun -> noun.length() > 1) // 1글자 제외
-                .collect(Collectors.groupingBy(noun -> noun, Collectors.counting()));
+        // [MODIFIED] 명사 위주 필터링 및 정규화 강화 (명사 여부/정규화 결과는 AnalyzedText 에서 재사용)
+        Map<String, Long> allFrequency = new HashMap<>();
+        for (int i = 0; i < document.tokenCount(); i++) {
+            String noun = document.normalizedToken(i);
+            if (document.isNoun(i) && noun.length() > 1) { // 1글자 제외
+                allFrequency.merge(noun, 1L, Long::sum);
+            }
+        }
 
         Map<String, Long> keyTermsCount = new HashMap<>();
         Map<String, Long> generalKeywordsCount = new HashMap<>();
@@ -179,13 +297,16 @@ public class KoreanNLPService {
         // 만약 10개 미만이라면 빈도가 낮더라도 10개까지 채우기
         if (generalRankings.size() < 10) {
             // 모든 토큰에서 추가 키워드 찾기 (명사 필터링 완화)
-            Map<String, Long> additionalKeywords = tokens.stream()
-                .map(this::normalizeNoun)
-                .filter(word -> word.length() > 1)
-                .filter(word -> !KEY_TERMS.contains(word)) // 핵심 키워드 제외
-                .filter(word -> !generalKeywordsCount.containsKey(word)) // 이미 포함된 것 제외
-                .filter(word -> !STOP_WORDS.contains(word)) // 불용어 제외
-                .collect(Collectors.groupingBy(word -> word, Collectors.counting()));
+            Map<String, Long> additionalKeywords = new HashMap<>();
+            for (int i = 0; i < document.tokenCount(); i++) {
+                String word = document.normalizedToken(i);
+                if (word.length() > 1
+                        && !KEY_TERMS.contains(word) // 핵심 키워드 제외
+                        && !generalKeywordsCount.containsKey(word) // 이미 포함된 것 제외
+                        && !STOP_WORDS.contains(word)) { // 불용어 제외
+                    additionalKeywords.merge(word, 1L, Long::sum);
+                }
+            }
                 
             List<Map.Entry<String, Long>> additionalRankings = additionalKeywords.entrySet().stream()
                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
@@ -206,6 +327,13 @@ public class KoreanNLPService {
      * [NEW] 고급 키워드별 감성 분석 (사전 기반 + 컨텍스트 규칙)
      */
     public Map<String, Map<String, Integer>> analyzeSentimentByKeyTerms(String text) {
+        return analyzeSentimentByKeyTerms(analyze(text));
+    }
+
+    /**
+     * [NEW] 고급 키워드별 감성 분석 (이미 분석된 텍스트 재사용)
+     */
+    public Map<String, Map<String, Integer>> analyzeSentimentByKeyTerms(AnalyzedText document) {
         Map<String, Map<String, Integer>> sentimentByKeyword = new HashMap<>();
         KEY_TERMS.forEach(term -> {
             Map<String, Integer> counts = new HashMap<>();
@@ -214,24 +342,23 @@ public class KoreanNLPService {
             sentimentByKeyword.put(term, counts);
         });
 
-        List<String> sentences = splitSentences(text);
-
-        for (String sentence : sentences) {
-            List<String> tokens = tokenizeSimple(sentence);
+        for (int s = 0; s < document.sentenceCount(); s++) {
+            int from = document.sentenceTokenStart(s);
+            int to = document.sentenceTokenEnd(s);
             
             // 문장에서 발견된 키워드들과 관련 감성어 찾기
             Set<String> foundKeywords = new HashSet<>();
             
             // 1. 직접적인 키워드 매칭
-            for (String token : tokens) {
-                String normalized = normalizeNoun(token);
+            for (int i = from; i < to; i++) {
+                String normalized = document.normalizedToken(i);
                 if (KEY_TERMS.contains(normalized)) {
                     foundKeywords.add(normalized);
                 }
             }
             
             // 2. 간접적인 키워드 추론 (감성어를 통한 키워드 추론)
-            foundKeywords.addAll(inferKeywordsFromContext(tokens));
+            foundKeywords.addAll(inferKeywordsFromContext(document.tokens(from, to)));
             
             if (foundKeywords.isEmpty()) {
                 continue; // 키워드가 없는 문장은 스킵
@@ -239,7 +366,7 @@ public class KoreanNLPService {
             
             // 각 키워드에 대한 감성 분석
             for (String keyword : foundKeywords) {
-                String sentiment = analyzeKeywordSentimentInSentence(sentence, keyword, tokens);
+                String sentiment = analyzeKeywordSentimentInSentence(document, s, keyword);
                 
                 if ("POSITIVE".equals(sentiment)) {
                     sentimentByKeyword.get(keyword).put("POSITIVE", 
@@ -258,57 +385,31 @@ public class KoreanNLPService {
     /**
      * [NEW] 문장 내에서 특정 키워드의 감성 분석 (맥락 기반 분석)
      */
-    private String analyzeKeywordSentimentInSentence(String sentence, String keyword, List<String> tokens) {
+    private String analyzeKeywordSentimentInSentence(AnalyzedText document, int sentenceIndex, String keyword) {
+        int from = document.sentenceTokenStart(sentenceIndex);
+        int to = document.sentenceTokenEnd(sentenceIndex);
+
         // 1. 키워드 위치 찾기
-        int keywordIndex = findKeywordIndex(tokens, keyword);
+        int keywordIndex = findKeywordIndex(document, from, to, keyword);
         if (keywordIndex == -1) {
             return null; // 키워드가 없으면 분석 불가
         }
         
         // 2. 키워드 주변 윈도우 설정 (앞뒤 3개 토큰)
         int windowSize = 3;
-        int startIndex = Math.max(0, keywordIndex - windowSize);
-        int endIndex = Math.min(tokens.size(), keywordIndex + windowSize + 1);
-        
-        // 3. 윈도우 내 토큰들에서 감성어 찾기
-        Set<String> positiveWords = KEYWORD_POSITIVE_WORDS.getOrDefault(keyword, Set.of());
-        Set<String> negativeWords = KEYWORD_NEGATIVE_WORDS.getOrDefault(keyword, Set.of());
-        
-        boolean hasPositive = false;
-        boolean hasNegative = false;
-        boolean hasNegativeContext = false;
-        
-        List<String> contextWords = new ArrayList<>();
+        int startIndex = Math.max(from, keywordIndex - windowSize);
+        int endIndex = Math.min(to, keywordIndex + windowSize + 1);
         
+        // 3. 윈도우 내 토큰들에서 감성어 찾기 (토큰별 매칭 결과는 AnalyzedText 에서 재사용)
+        int mask = 0;
         for (int i = startIndex; i < endIndex; i++) {
-            String token = tokens.get(i);
-            String normalized = normalizeNoun(token);
-            contextWords.add(token);
-            
-            // 긍정어 검사
-            for (String posWord : positiveWords) {
-                if (token.contains(posWord) || normalized.contains(posWord)) {
-                    hasPositive = true;
-                    break;
-                }
-            }
-            
-            // 부정어 검사
-            for (String negWord : negativeWords) {
-                if (token.contains(negWord) || normalized.contains(negWord)) {
-                    hasNegative = true;
-                    break;
-                }
-            }
-            
-            // 부정 맥락어 검사
-            for (String contextWord : NEGATIVE_CONTEXT_WORDS) {
-                if (token.contains(contextWord) || normalized.contains(contextWord)) {
-                    hasNegativeContext = true;
-                    break;
-                }
-            }
+            mask |= document.lexiconMask(i);
         }
+        List<String> contextWords = document.tokens(startIndex, endIndex);
+        
+        boolean hasPositive = (mask & keywordPositiveMask(keyword)) != 0;
+        boolean hasNegative = (mask & keywordNegativeMask(keyword)) != 0;
+        boolean hasNegativeContext = (mask & NEGATIVE_CONTEXT_MASK) != 0;
         
         // 4. 특별한 맥락 패턴 검사
         String sentiment = analyzeSpecialPatterns(contextWords, keyword);
@@ -327,8 +428,7 @@ public class KoreanNLPService {
         }
         
         // 6. 감성어가 없는 경우 전체 문장 감성 사용
-        Map<String, Object> sentimentResult = analyzeSentiment(sentence);
-        String overallSentiment = (String) sentimentResult.get("sentiment");
+        String overallSentiment = classifySentiment(document, from, to);
         
         if ("NEUTRAL".equals(overallSentiment)) {
             return null; // 중립은 집계하지 않음
@@ -338,12 +438,11 @@ public class KoreanNLPService {
     }
     
     /**
-     * [NEW] 키워드 위치 찾기
+     * [NEW] 토큰 범위 [from, to) 에서 키워드 위치 찾기
      */
-    private int findKeywordIndex(List<String> tokens, String keyword) {
-        for (int i = 0; i < tokens.size(); i++) {
-            String normalized = normalizeNoun(tokens.get(i));
-            if (keyword.equals(normalized)) {
+    private int findKeywordIndex(AnalyzedText document, int from, int to, String keyword) {
+        for (int i = from; i < to; i++) {
+            if (keyword.equals(document.normalizedToken(i))) {
                 return i;
             }
         }
@@ -467,19 +566,27 @@ public class KoreanNLPService {
      * 반환 예시: { label: "POSITIVE"|"NEGATIVE"|"UNKNOWN", posCount: n, negCount: n, matchedSentences: m }
      */
     public Map<String, Object> classifyBinaryByKeyTerms(String text) {
+        return classifyBinaryByKeyTerms(analyze(text));
+    }
+
+    /**
+     * 주요 키워드 중심 이진 감성분석 (이미 분석된 텍스트 재사용)
+     */
+    public Map<String, Object> classifyBinaryByKeyTerms(AnalyzedText document) {
         Map<String, Object> result = new HashMap<>();
-        List<String> sentences = splitSentences(text);
 
         int positiveSentenceCount = 0;
         int negativeSentenceCount = 0;
         int matchedSentences = 0;
 
-        for (String sentence : sentences) {
+        for (int s = 0; s < document.sentenceCount(); s++) {
+            int from = document.sentenceTokenStart(s);
+            int to = document.sentenceTokenEnd(s);
+
             // 문장에 주요 키워드가 포함되어 있는지 검사
             boolean containsKeyTerm = false;
-            for (String token : tokenizeSimple(sentence)) {
-                String normalized = normalizeNoun(token);
-                if (KEY_TERMS.contains(normalized)) {
+            for (int i = from; i < to; i++) {
+                if (KEY_TERMS.contains(document.normalizedToken(i))) {
                     containsKeyTerm = true;
                     break;
                 }
@@ -489,8 +596,7 @@ public class KoreanNLPService {
                 continue;
             }
 
-            Map<String, Object> sentimentResult = analyzeSentiment(sentence);
-            String sentenceSentiment = (String) sentimentResult.get("sentiment");
+            String sentenceSentiment = classifySentiment(document, from, to);
 
             if ("POSITIVE".equals(sentenceSentiment)) {
                 positiveSentenceCount++;
@@ -515,6 +621,97 @@ public class KoreanNLPService {
         return result;
     }
 
+    /**
+     * [NEW] 토큰 범위 [from, to) 의 기본 감성 판단 (analyzeSentiment 와 동일한 규칙)
+     */
+    private String classifySentiment(AnalyzedText document, int from, int to) {
+        int positiveScore = 0;
+        int negativeScore = 0;
+        for (int i = from; i < to; i++) {
+            int mask = document.lexiconMask(i);
+            if ((mask & GENERAL_POSITIVE_MASK) != 0) { positiveScore++; }
+            if ((mask & GENERAL_NEGATIVE_MASK) != 0) { negativeScore++; }
+        }
+        return toSentimentLabel(positiveScore, negativeScore);
+    }
+
+    private String toSentimentLabel(int positiveScore, int negativeScore) {
+        if (positiveScore > negativeScore) {
+            return "POSITIVE";
+        } else if (negativeScore > positiveScore) {
+            return "NEGATIVE";
+        }
+        return "NEUTRAL";
+    }
+
+
+    /**
+     * [NEW] 리뷰 일괄 분석 (ForkJoinPool 로 전체 코어에 분산)
+     * - 리뷰별 결과(sentiment, binary, keywordRankings, keyTermSentiment)는 입력 순서대로 반환
+     * - 키워드/감성 집계는 작업 단위별로 누적 후 병합하므로 잠금 없이 계산
+     */
+    public BatchAnalysisResult analyzeBatch(List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            return new BatchAnalysisResult(List.of(), new KeywordAggregate());
+        }
+        String[] input = texts.toArray(new String[0]);
+        @SuppressWarnings("unchecked")
+        Map<String, Object>[] results = new Map[input.length];
+        KeywordAggregate aggregate = koreanAnalysisPool.invoke(new BatchAnalysisTask(input, results, 0, input.length));
+        return new BatchAnalysisResult(Collections.unmodifiableList(Arrays.asList(results)), aggregate);
+    }
+
+    private Map<String, Object> analyzeForBatch(String text, KeywordAggregate aggregate) {
+        AnalyzedText document = analyze(text);
+        String sentiment = classifySentiment(document, 0, document.tokenCount());
+        Map<String, Object> keywordRankings = extractKeywordRankings(document);
+        Map<String, Map<String, Integer>> keyTermSentiment = analyzeSentimentByKeyTerms(document);
+        aggregate.add(sentiment, keywordRankings, keyTermSentiment);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("sentiment", sentiment);
+        result.put("binary", classifyBinaryByKeyTerms(document));
+        result.put("keywordRankings", keywordRankings);
+        result.put("keyTermSentiment", keyTermSentiment);
+        return result;
+    }
+
+    /**
+     * 입력 구간 [from, to) 를 반으로 나눠 분석하고 집계를 병합하는 작업
+     */
+    private class BatchAnalysisTask extends RecursiveTask<KeywordAggregate> {
+
+        private final String[] texts;
+        private final Map<String, Object>[] results;
+        private final int from;
+        private final int to;
+
+        BatchAnalysisTask(String[] texts, Map<String, Object>[] results, int from, int to) {
+            this.texts = texts;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected KeywordAggregate compute() {
+            if (to - from <= BATCH_SPLIT_THRESHOLD) {
+                KeywordAggregate aggregate = new KeywordAggregate();
+                for (int i = from; i < to; i++) {
+                    results[i] = analyzeForBatch(texts[i], aggregate);
+                }
+                return aggregate;
+            }
+            int mid = (from + to) >>> 1;
+            BatchAnalysisTask left = new BatchAnalysisTask(texts, results, from, mid);
+            left.fork();
+            KeywordAggregate right = new BatchAnalysisTask(texts, results, mid, to).compute();
+            KeywordAggregate merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+
 
     // ===================================================================
     // 아래는 기존 메소드들입니다 (수정 없음, analyzeSentiment만 참고용으로 사용됨)
@@ -522,30 +719,30 @@ public class KoreanNLPService {
 
     public List<String> tokenizeSimple(String text) {
         if (text == null || text.trim().isEmpty()) { return new ArrayList<>(); }
-        List<String> tokens = new ArrayList<>();
-        String cleanText = text.replaceAll("[^가-힣a-zA-Z0-9\\s]", " ");
-        for (String word : cleanText.split("\\s+")) {
-            if (!word.trim().isEmpty()) {
-                tokens.add(word.trim());
-            }
-        }
-        return tokens;
+        // 한글/영문/숫자 연속 구간을 정규식 없이 1회 스캔으로 추출
+        return KoreanTokenizer.tokenize(text).toList();
     }
     
     public Map<String, Object> analyzeSentiment(String text) {
         Map<String, Object> result = new HashMap<>();
-        Set<String> positiveWords = Set.of("좋", "훌륭", "최고", "만족", "추천", "괜찮", "맛있", "친절", "깨끗", "빠르", "편리", "감사", "완벽", "멋지", "사랑", "기쁘", "행복", "즐거", "재미", "신선", "맛", "품질", "서비스");
-        Set<String> negativeWords = Set.of("나쁘", "최악", "불만", "별로", "싫", "맛없", "실망", "짜증", "불친절", "더럽", "느리", "불편", "화나", "문제", "오류", "고장", "비싸", "늦", "틀리", "잘못", "부족", "어려", "복잡", "답답");
         List<String> tokens = tokenizeSimple(text);
         int positiveScore = 0;
         int negativeScore = 0;
         for (String token : tokens) {
-            for (String pos : positiveWords) { if (token.contains(pos)) { positiveScore++; break; }}
-            for (String neg : negativeWords) { if (token.contains(neg)) { negativeScore++; break; }}
+            int mask = LEXICON_MATCHER.match(token);
+            if ((mask & GENERAL_POSITIVE_MASK) != 0) { positiveScore++; }
+            if ((mask & GENERAL_NEGATIVE_MASK) != 0) { negativeScore++; }
         }
-        if (positiveScore > negativeScore) { result.put("sentiment", "POSITIVE");
-        } else if (negativeScore > positiveScore) { result.put("sentiment", "NEGATIVE");
-        } else { result.put("sentiment", "NEUTRAL"); }
+        result.put("sentiment", toSentimentLabel(positiveScore, negativeScore));
+        return result;
+    }
+
+    /**
+     * 기본 감성 분석 (이미 분석된 텍스트 재사용)
+     */
+    public Map<String, Object> analyzeSentiment(AnalyzedText document) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("sentiment", classifySentiment(document, 0, document.tokenCount()));
         return result;
     }
 }
\ No newline at end of file
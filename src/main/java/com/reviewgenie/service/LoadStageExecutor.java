@@ -0,0 +1,119 @@
+package com.reviewgenie.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * [NEW] 의존 관계(DAG)를 고려한 적재 단계 실행기
+ * - 선행 단계가 모두 성공하면 바로 실행하고, 서로 독립적인 단계는 별도 스레드(별도 트랜잭션/커넥션)에서 동시에 실행
+ * - 선행 단계가 실패하면 뒤따르는 단계는 실행하지 않고 SKIPPED 처리 (다른 갈래는 계속 진행)
+ * - 단계별 소요 시간을 기록하여 결과로 반환
+ */
+public final class LoadStageExecutor {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LoadStageExecutor.class);
+
+    public enum Status { SUCCESS, FAILED, SKIPPED }
+
+    public record StageResult(String name, Status status, long elapsedMillis, String error) {
+    }
+
+    @FunctionalInterface
+    public interface Stage {
+        void run() throws Exception;
+    }
+
+    private record StageDefinition(String name, Stage stage, List<String> dependsOn) {
+    }
+
+    private final String name;
+    private final int parallelism;
+    private final Map<String, StageDefinition> stages = new LinkedHashMap<>();
+
+    public LoadStageExecutor(String name, int parallelism) {
+        this.name = name;
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+    /**
+     * 단계 등록 (선행 단계는 먼저 등록되어 있어야 하므로 순환 의존이 생기지 않음)
+     */
+    public LoadStageExecutor stage(String stageName, Stage stage, String... dependsOn) {
+        if (stages.containsKey(stageName)) {
+            throw new IllegalArgumentException("Duplicate stage: " + stageName);
+        }
+        for (String dependency : dependsOn) {
+            if (!stages.containsKey(dependency)) {
+                throw new IllegalArgumentException("Unknown dependency: " + dependency + " (stage " + stageName + ")");
+            }
+        }
+        stages.put(stageName, new StageDefinition(stageName, stage, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * 전체 단계 실행 후 결과 반환 (등록 순서, 모든 단계가 끝날 때까지 대기)
+     */
+    public List<StageResult> run() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.currentTimeMillis();
+        try {
+            Map<String, CompletableFuture<StageResult>> futures = new LinkedHashMap<>();
+            for (StageDefinition definition : stages.values()) {
+                List<CompletableFuture<StageResult>> dependencies = definition.dependsOn().stream()
+                        .map(futures::get)
+                        .collect(Collectors.toList());
+                CompletableFuture<StageResult> future = CompletableFuture
+                        .allOf(dependencies.toArray(CompletableFuture[]::new))
+                        .thenApplyAsync(ignored -> execute(definition, dependencies), executor);
+                futures.put(definition.name(), future);
+            }
+
+            List<StageResult> results = new ArrayList<>(futures.size());
+            futures.values().forEach(future -> results.add(future.join()));
+            log.info("⏱️ [{}] 전체 {}ms - {}", name, System.currentTimeMillis() - start,
+                    results.stream()
+                            .map(result -> result.name() + "=" + result.status() + "(" + result.elapsedMillis() + "ms)")
+                            .collect(Collectors.joining(", ")));
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private StageResult execute(StageDefinition definition, List<CompletableFuture<StageResult>> dependencies) {
+        // 선행 단계는 이미 완료된 상태 (execute 는 예외를 던지지 않으므로 join 은 결과만 반환)
+        for (CompletableFuture<StageResult> dependency : dependencies) {
+            StageResult result = dependency.join();
+            if (result.status() != Status.SUCCESS) {
+                log.warn("⏭️ [{}] {} 단계 건너뜀 (선행 단계 {} {})", name, definition.name(), result.name(), result.status());
+                return new StageResult(definition.name(), Status.SKIPPED, 0, "선행 단계 실패: " + result.name());
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            definition.stage().run();
+            long elapsed = System.currentTimeMillis() - start;
+            log.info("⏱️ [{}] {} 단계 완료: {}ms", name, definition.name(), elapsed);
+            return new StageResult(definition.name(), Status.SUCCESS, elapsed, null);
+        } catch (Exception e) {
+            long elapsed = System.currentTimeMillis() - start;
+            log.error("❌ [{}] {} 단계 실패 ({}ms): {}", name, definition.name(), elapsed, e.getMessage());
+            log.debug("상세 오류 정보:", e);
+            return new StageResult(definition.name(), Status.FAILED, elapsed, e.getMessage());
+        }
+    }
+}
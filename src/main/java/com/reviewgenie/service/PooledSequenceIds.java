@@ -0,0 +1,40 @@
+package com.reviewgenie.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 엔티티 시퀀스에서 ID 선할당 (JPA 를 거치지 않는 COPY / upsert 적재용)
+ * - 시퀀스 값 hi 1개당 (hi - 50, hi] 구간 ID 사용 (Hibernate pooled 옵티마이저와 같은 규칙이라 JPA INSERT 와 겹치지 않음)
+ * - 시퀀스 첫 값(1)처럼 구간이 1 미만으로 내려가는 부분은 사용하지 않음
+ */
+final class PooledSequenceIds {
+
+    // 엔티티 @SequenceGenerator(allocationSize = 50) 및 V2 마이그레이션의 INCREMENT BY 와 같아야 함
+    static final int ALLOCATION_SIZE = 50;
+
+    private PooledSequenceIds() {
+    }
+
+    static long[] allocate(Connection connection, String sequence, int count) throws SQLException {
+        long[] ids = new long[count];
+        int filled = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)")) {
+            while (filled < count) {
+                statement.setInt(1, (count - filled + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next() && filled < count) {
+                        long hi = resultSet.getLong(1);
+                        for (long id = Math.max(hi - ALLOCATION_SIZE + 1, 1); id <= hi && filled < count; id++) {
+                            ids[filled++] = id;
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+}
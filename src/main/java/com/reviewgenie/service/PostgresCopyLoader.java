@@ -0,0 +1,126 @@
+package com.reviewgenie.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * [NEW] PostgreSQL COPY 기반 대량 적재 (초기 데이터 로드 copy 모드)
+ * - JPA 영속성 컨텍스트를 거치지 않고 CSV 로 변환하여 COPY ... FROM STDIN 으로 전송
+ * - 메모리는 CHUNK_ROWS 건 단위로만 사용하고, 호출 측 트랜잭션의 커넥션에서 실행 (커밋/롤백은 호출 측)
+ * - ID 는 엔티티와 같은 시퀀스에서 50개 단위(pooled)로 선할당하므로 이후 JPA INSERT 와 겹치지 않음
+ */
+@Component
+public class PostgresCopyLoader {
+
+    /**
+     * COPY 대상 테이블 (ID 컬럼/시퀀스 + 나머지 컬럼 순서)
+     */
+    public record CopyTable(String name, String idColumn, String idSequence, List<String> columns) {
+    }
+
+    public static final CopyTable REVIEW = new CopyTable("review", "review_id", "review_review_id_seq",
+            List.of("store_id", "content", "sentiment", "created_at"));
+
+    private static final int CHUNK_ROWS = 5_000;
+
+    private final DataSource dataSource;
+
+    public PostgresCopyLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 현재 DataSource 가 PostgreSQL 드라이버 연결인지 (아니면 JPA 경로 사용)
+     */
+    public boolean isSupported() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * source 의 각 항목을 행(table.columns 순서의 값 배열)으로 변환하여 COPY
+     * - 트랜잭션 안에서 호출해야 함 (트랜잭션이 없으면 CHUNK_ROWS 건마다 자동 커밋)
+     * @return 적재한 행 수
+     */
+    public <S> int copyIn(CopyTable table, Iterable<S> source, Function<? super S, Object[]> toRow) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            int count = 0;
+            List<Object[]> chunk = new ArrayList<>(CHUNK_ROWS);
+            for (S item : source) {
+                chunk.add(toRow.apply(item));
+                if (chunk.size() == CHUNK_ROWS) {
+                    count += copyChunk(connection, table, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                count += copyChunk(connection, table, chunk);
+            }
+            return count;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private int copyChunk(Connection connection, CopyTable table, List<Object[]> rows) throws SQLException {
+        long[] ids = PooledSequenceIds.allocate(connection, table.idSequence(), rows.size());
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (int i = 0; i < rows.size(); i++) {
+            csv.append(ids[i]);
+            for (Object value : rows.get(i)) {
+                csv.append(',');
+                appendCsvValue(csv, value);
+            }
+            csv.append('\n');
+        }
+
+        String sql = "COPY " + table.name() + " (" + table.idColumn() + ", " + String.join(", ", table.columns())
+                + ") FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        return rows.size();
+    }
+
+    // null 은 따옴표 없는 빈 값(NULL), 문자열은 항상 따옴표로 감싸서 빈 문자열/쉼표/줄바꿈을 보존
+    private static void appendCsvValue(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            csv.append(value);
+            return;
+        }
+        String text = value.toString();
+        csv.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+}
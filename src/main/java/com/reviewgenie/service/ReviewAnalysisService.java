@@ -7,7 +7,6 @@ import com.reviewgenie.repository.ReviewRepository;
 import com.reviewgenie.repository.StoreRepository;
 import edu.stanford.nlp.ling.CoreAnnotations;
 import edu.stanford.nlp.pipeline.Annotation;
-import edu.stanford.nlp.pipeline.StanfordCoreNLP;
 import edu.stanford.nlp.sentiment.SentimentCoreAnnotations;
 import edu.stanford.nlp.util.CoreMap;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -25,10 +26,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReviewAnalysisService {
 
-    private final StanfordCoreNLP stanfordCoreNLP;
+    private final CoreNLPAnnotationService coreNLPAnnotationService;
     private final KoreanNLPService koreanNLPService;
     private final ReviewRepository reviewRepository;
     private final StoreRepository storeRepository;
+    private final AnalysisResultCache analysisResultCache;
+    private final KeywordAggregateDeltas keywordAggregateDeltas;
+    private final ReviewDailyStatsService reviewDailyStatsService;
 
     // 간단한 한국어 불용어 목록 (필요에 따라 확장)
     private static final List<String> STOPWORDS = Arrays.asList(
@@ -37,6 +41,8 @@ public class ReviewAnalysisService {
 
 	/**
 	 * 리뷰 저장
+	 * - 일별 리뷰 통계는 같은 트랜잭션에서 반영
+	 * - 커밋 후 매장 키워드 집계에 이 리뷰의 키워드/감정 건수를 증분 반영 (주기적으로 모아서 flush)
 	 */
 	@Transactional
 	public Review saveReview(Long storeId, String content) {
@@ -52,7 +58,10 @@ public class ReviewAnalysisService {
 				.createdAt(LocalDateTime.now())
 				.build();
 		
-		return reviewRepository.save(review);
+		Review saved = reviewRepository.save(review);
+		reviewDailyStatsService.record(storeId, saved.getCreatedAt(), sentiment);
+		keywordAggregateDeltas.recordAfterCommit(storeId, saved.getReviewId(), content, sentiment);
+		return saved;
 	}
 	
 	/**
@@ -90,7 +99,14 @@ public class ReviewAnalysisService {
 				.build();
 	}
 
+    /**
+     * 감정 분석 (같은 텍스트는 캐시된 결과 재사용)
+     */
     public String analyzeSentiment(String reviewText) {
+        return analysisResultCache.get(AnalysisResultCache.Kind.SENTIMENT, reviewText, this::computeSentiment);
+    }
+
+    private String computeSentiment(String reviewText) {
         // 한국어인지 체크 (한글 포함 여부로 간단 판단)
         if (containsKorean(reviewText)) {
             return analyzeKoreanSentiment(reviewText);
@@ -114,13 +130,47 @@ public class ReviewAnalysisService {
     
     /**
      * 영어 감정 분석 (기존 Stanford CoreNLP 사용)
+     * - 파이프라인은 첫 영어 요청 시 로드되며, 분석은 CoreNLP 전용 스레드 풀에서 실행
      */
     public String analyzeEnglishSentiment(String reviewText) {
         String preprocessedText = preprocessText(reviewText);
+        return toSentimentLabel(coreNLPAnnotationService.annotate(preprocessedText, ReviewAnalysisService::isDecisiveSentence));
+    }
+
+    /**
+     * 여러 리뷰 감정 분석 (입력 순서대로 반환)
+     * - 영어 리뷰는 CoreNLP 스레드 풀에서 병렬 분석, 한국어 리뷰는 바로 분석
+     */
+    public List<String> analyzeSentiments(List<String> reviewTexts) {
+        String[] results = new String[reviewTexts.size()];
+        List<Integer> englishIndexes = new ArrayList<>();
+        List<String> englishTexts = new ArrayList<>();
+        for (int i = 0; i < reviewTexts.size(); i++) {
+            String text = reviewTexts.get(i);
+            if (containsKorean(text)) {
+                results[i] = analyzeKoreanSentiment(text);
+            } else {
+                englishIndexes.add(i);
+                englishTexts.add(preprocessText(text));
+            }
+        }
+
+        List<Annotation> annotations = coreNLPAnnotationService.annotateAll(englishTexts, ReviewAnalysisService::isDecisiveSentence);
+        for (int i = 0; i < annotations.size(); i++) {
+            results[englishIndexes.get(i)] = toSentimentLabel(annotations.get(i));
+        }
+        return Arrays.asList(results);
+    }
 
-        Annotation annotation = new Annotation(preprocessedText);
-        stanfordCoreNLP.annotate(annotation);
+    /**
+     * 결론이 나는 문장 여부 (첫 긍정/부정 문장에서 결과가 정해지므로 이후 문장은 분석 불필요)
+     */
+    private static boolean isDecisiveSentence(CoreMap sentence) {
+        String sentiment = sentence.get(SentimentCoreAnnotations.SentimentClass.class);
+        return sentiment.contains("Positive") || sentiment.contains("Negative");
+    }
 
+    private String toSentimentLabel(Annotation annotation) {
         // CoreNLP는 문장 단위로 감성을 분석
         for (CoreMap sentence : annotation.get(CoreAnnotations.SentencesAnnotation.class)) {
             String sentiment = sentence.get(SentimentCoreAnnotations.SentimentClass.class);
@@ -154,26 +204,33 @@ public class ReviewAnalysisService {
     
     /**
      * 종합 리뷰 분석 (한국어/영어 자동 감지)
+     * - 분석 결과는 캐시하고, 원문(originalText)만 호출마다 채워서 반환
      */
     public Map<String, Object> analyzeReview(String reviewText) {
+        Map<String, Object> cached = analysisResultCache.get(AnalysisResultCache.Kind.REVIEW, reviewText, this::computeReview);
+        Map<String, Object> result = new HashMap<>(cached);
+        result.put("originalText", reviewText);
+        return result;
+    }
+
+    private Map<String, Object> computeReview(String reviewText) {
         if (containsKorean(reviewText)) {
-            // analyzeText 메서드가 없으므로 여러 메서드를 조합하여 대체
-            Map<String, Object> sentimentResult = koreanNLPService.analyzeSentiment(reviewText);
-            Map<String, Object> keywordResult = koreanNLPService.extractKeywordRankings(reviewText);
-            List<String> tokens = koreanNLPService.tokenizeSimple(reviewText);
+            // 텍스트를 1회만 분석하고 감성/키워드/토큰 결과에 공유
+            AnalyzedText document = koreanNLPService.analyze(reviewText);
+            Map<String, Object> sentimentResult = koreanNLPService.analyzeSentiment(document);
+            Map<String, Object> keywordResult = koreanNLPService.extractKeywordRankings(document);
+            List<String> tokens = document.getTokens();
             
-            Map<String, Object> result = new java.util.HashMap<>();
-            result.put("originalText", reviewText);
+            Map<String, Object> result = new HashMap<>();
             result.put("sentiment", sentimentResult.get("sentiment"));
             result.put("keywordRankings", keywordResult);
             result.put("tokens", tokens);
             result.put("language", "KOREAN");
             
-            return result;
+            return Collections.unmodifiableMap(result);
         } else {
             // 영어 분석 로직 (추후 구현 가능)
             return Map.of(
-                "originalText", reviewText,
                 "sentiment", analyzeEnglishSentiment(reviewText),
                 "language", "ENGLISH"
             );
@@ -183,20 +240,26 @@ public class ReviewAnalysisService {
     /**
      * 이진 감성 분석 (주요 키워드 중심 → 없으면 백업 로직)
      * 반환: { label, matchedSentences, posCount, negCount, fallbackUsed, language }
+     * - 같은 텍스트는 캐시된 결과 재사용 (읽기 전용 Map)
      */
     public Map<String, Object> analyzeBinary(String reviewText) {
+        return analysisResultCache.get(AnalysisResultCache.Kind.BINARY, reviewText, this::computeBinary);
+    }
+
+    private Map<String, Object> computeBinary(String reviewText) {
         if (containsKorean(reviewText)) {
-            Map<String, Object> byKeyTerms = koreanNLPService.classifyBinaryByKeyTerms(reviewText);
+            AnalyzedText document = koreanNLPService.analyze(reviewText);
+            Map<String, Object> byKeyTerms = koreanNLPService.classifyBinaryByKeyTerms(document);
             String label = (String) byKeyTerms.get("label");
             Integer matched = (Integer) byKeyTerms.get("matchedSentences");
             if (matched != null && matched > 0 && ("POSITIVE".equals(label) || "NEGATIVE".equals(label))) {
                 byKeyTerms.put("fallbackUsed", false);
                 byKeyTerms.put("language", "KOREAN");
-                return byKeyTerms;
+                return Collections.unmodifiableMap(byKeyTerms);
             }
 
             // 백업: 한국어 전체 감성 → 이진 매핑(NEUTRAL은 POSITIVE로)
-            Map<String, Object> sentiment = koreanNLPService.analyzeSentiment(reviewText);
+            Map<String, Object> sentiment = koreanNLPService.analyzeSentiment(document);
             String overall = (String) sentiment.get("sentiment");
             String binary = "NEGATIVE".equalsIgnoreCase(overall) ? "NEGATIVE" : "POSITIVE";
             return Map.of(
@@ -0,0 +1,160 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.repository.StoreRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * [NEW] 매장별 일별 리뷰 수 롤업(review_daily_stats) 관리
+ * - apply()/record(): 저장한 리뷰의 (매장, 날짜)별 건수를 기존 행에 더하는 upsert (호출 측 트랜잭션 안에서 실행)
+ * - backfill(): 매장별로 review 테이블에서 다시 집계해 교체 (롤업 도입 전 데이터, 수동 보정용)
+ *   → 교체하는 동안 테이블을 SHARE ROW EXCLUSIVE 로 잠가 동시에 저장되는 리뷰가 누락되거나 두 번 더해지지 않도록 함
+ */
+@Service
+public class ReviewDailyStatsService {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ReviewDailyStatsService.class);
+
+    private static final String ADD_DAILY_STATS_SQL =
+            "INSERT INTO review_daily_stats (store_id, stat_date, review_count, positive_count, negative_count, neutral_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (store_id, stat_date) DO UPDATE SET "
+                    + "review_count = review_daily_stats.review_count + EXCLUDED.review_count, "
+                    + "positive_count = review_daily_stats.positive_count + EXCLUDED.positive_count, "
+                    + "negative_count = review_daily_stats.negative_count + EXCLUDED.negative_count, "
+                    + "neutral_count = review_daily_stats.neutral_count + EXCLUDED.neutral_count";
+    private static final String LOCK_DAILY_STATS_SQL = "LOCK TABLE review_daily_stats IN SHARE ROW EXCLUSIVE MODE";
+    private static final String DELETE_DAILY_STATS_SQL = "DELETE FROM review_daily_stats WHERE store_id = ?";
+    private static final String BACKFILL_DAILY_STATS_SQL =
+            "INSERT INTO review_daily_stats (store_id, stat_date, review_count, positive_count, negative_count, neutral_count) "
+                    + "SELECT store_id, CAST(created_at AS date), COUNT(*), "
+                    + "COUNT(*) FILTER (WHERE sentiment = 'POSITIVE'), "
+                    + "COUNT(*) FILTER (WHERE sentiment = 'NEGATIVE'), "
+                    + "COUNT(*) FILTER (WHERE sentiment IS NULL OR sentiment NOT IN ('POSITIVE', 'NEGATIVE')) "
+                    + "FROM review WHERE store_id = ? AND created_at IS NOT NULL "
+                    + "GROUP BY store_id, CAST(created_at AS date)";
+
+    /**
+     * 저장한 리뷰들의 (매장, 날짜)별 건수 누적분 (스레드 안전하지 않음, 트랜잭션 1개 단위로 사용)
+     */
+    public static final class Delta {
+
+        private record Key(Long storeId, LocalDate date) {
+        }
+
+        private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::storeId).thenComparing(Key::date);
+
+        // (매장, 날짜) → [positive, negative, neutral], 매장/날짜 순으로 정렬해 upsert 잠금 순서를 맞춤
+        private final Map<Key, long[]> counts = new TreeMap<>(KEY_ORDER);
+
+        /**
+         * 리뷰 1건 누적 (매장 또는 작성 시각이 없는 리뷰는 롤업 대상이 아님)
+         */
+        public Delta add(Long storeId, LocalDateTime createdAt, String sentiment) {
+            if (storeId == null || createdAt == null) {
+                return this;
+            }
+            long[] sentimentCounts = counts.computeIfAbsent(new Key(storeId, createdAt.toLocalDate()), key -> new long[3]);
+            if ("POSITIVE".equals(sentiment)) {
+                sentimentCounts[0]++;
+            } else if ("NEGATIVE".equals(sentiment)) {
+                sentimentCounts[1]++;
+            } else {
+                sentimentCounts[2]++;
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return counts.isEmpty();
+        }
+
+        private List<Object[]> toRows() {
+            List<Object[]> rows = new ArrayList<>(counts.size());
+            counts.forEach((key, c) -> rows.add(new Object[] { key.storeId(), key.date(), c[0] + c[1] + c[2], c[0], c[1], c[2] }));
+            return rows;
+        }
+    }
+
+    private final StoreRepository storeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean backfilling = new AtomicBoolean();
+
+    public ReviewDailyStatsService(StoreRepository storeRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate) {
+        this.storeRepository = storeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 리뷰 1건 반영 (호출 측 트랜잭션 안에서 실행)
+     */
+    public void record(Long storeId, LocalDateTime createdAt, String sentiment) {
+        apply(new Delta().add(storeId, createdAt, sentiment));
+    }
+
+    /**
+     * 누적분 반영 (호출 측 트랜잭션 안에서 실행)
+     */
+    public void apply(Delta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_DAILY_STATS_SQL, delta.toRows());
+    }
+
+    /**
+     * 전체 매장 롤업 재계산 (한 번에 하나만 실행)
+     * @return 재계산한 (매장, 날짜) 행 수
+     */
+    public long backfill() {
+        return backfill(storeRepository.findAllIds());
+    }
+
+    /**
+     * 매장 1곳 롤업 재계산
+     */
+    public long backfill(Long storeId) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new IllegalArgumentException("Store not found: " + storeId);
+        }
+        return backfill(List.of(storeId));
+    }
+
+    private long backfill(List<Long> storeIds) {
+        if (!backfilling.compareAndSet(false, true)) {
+            throw new IllegalStateException("일별 리뷰 통계 재계산이 이미 실행 중입니다.");
+        }
+        long start = System.currentTimeMillis();
+        try {
+            long rows = 0;
+            // 매장마다 별도 트랜잭션 (테이블 잠금은 매장 1곳을 교체하는 동안만 유지)
+            for (Long storeId : storeIds) {
+                Integer inserted = transactionTemplate.execute(status -> {
+                    jdbcTemplate.execute(LOCK_DAILY_STATS_SQL);
+                    jdbcTemplate.update(DELETE_DAILY_STATS_SQL, storeId);
+                    return jdbcTemplate.update(BACKFILL_DAILY_STATS_SQL, storeId);
+                });
+                rows += inserted != null ? inserted : 0;
+            }
+            log.info("✅ 일별 리뷰 통계 재계산 완료: 매장 {}곳, {}행, {}ms", storeIds.size(), rows, System.currentTimeMillis() - start);
+            return rows;
+        } finally {
+            backfilling.set(false);
+        }
+    }
+}
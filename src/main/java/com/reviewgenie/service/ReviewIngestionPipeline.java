@@ -0,0 +1,427 @@
+package com.reviewgenie.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewgenie.domain.Review;
+import com.reviewgenie.domain.Store;
+import com.reviewgenie.domain.User;
+import com.reviewgenie.repository.StoreRepository;
+import com.reviewgenie.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [NEW] data/reviews.json 리뷰 분석·저장 파이프라인
+ * - 파싱 → 전처리 → 이진 감성 분류(병렬) → 배치 저장 단계를 크기가 제한된 큐로 연결
+ *   (뒤 단계가 밀리면 큐가 가득 차 앞 단계가 대기하므로 메모리 사용량은 큐 크기로 제한됨)
+ * - 파싱은 매장 1곳씩 스트리밍으로 읽고, 분류는 한국어는 KoreanNLPService, 그 외는 CoreNLP (ReviewAnalysisService.analyzeBinary)
+ * - 저장은 JDBC 배치 INSERT (JpaBatchInserter, batch-size 건 단위 트랜잭션)
+ * - 단계별 처리 건수/큐 적재량/처리량은 getStats() 로 조회
+ */
+@Component
+public class ReviewIngestionPipeline {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ReviewIngestionPipeline.class);
+
+    private static final String DEFAULT_USERNAME = "review_genie_user";
+    private static final String DEFAULT_PASSWORD = "review_genie_password";
+
+    /**
+     * 단계 사이에 전달되는 리뷰 1건 (단계마다 text/sentiment 를 채운 새 객체로 전달)
+     */
+    private record ReviewTask(Long storeId, String text, String sentiment) {
+    }
+
+    // 단계 종료 신호 (다음 단계 소비자 수만큼 넣음)
+    private static final ReviewTask END = new ReviewTask(null, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final StoreRepository storeRepository;
+    private final UserRepository userRepository;
+    private final ReviewAnalysisService reviewAnalysisService;
+    private final JpaBatchInserter jpaBatchInserter;
+    private final ReviewDailyStatsService reviewDailyStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int queueCapacity;
+    private final int classifierThreads;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong parsedCount = new AtomicLong();
+    private final AtomicLong preprocessedCount = new AtomicLong();
+    private final AtomicLong classifiedCount = new AtomicLong();
+    private final AtomicLong classificationFailureCount = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    // 실행마다 새로 만들어 이전 실행(실패 시)의 잔여 항목이 섞이지 않도록 함
+    private volatile BlockingQueue<ReviewTask> preprocessQueue;
+    private volatile BlockingQueue<ReviewTask> classifyQueue;
+    private volatile BlockingQueue<ReviewTask> persistQueue;
+    private volatile ExecutorService executor;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile String lastError;
+
+    public ReviewIngestionPipeline(ObjectMapper objectMapper,
+                                   StoreRepository storeRepository,
+                                   UserRepository userRepository,
+                                   ReviewAnalysisService reviewAnalysisService,
+                                   JpaBatchInserter jpaBatchInserter,
+                                   ReviewDailyStatsService reviewDailyStatsService,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${review-ingestion.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${review-ingestion.classifier-threads:0}") int classifierThreads) {
+        this.objectMapper = objectMapper;
+        this.storeRepository = storeRepository;
+        this.userRepository = userRepository;
+        this.reviewAnalysisService = reviewAnalysisService;
+        this.jpaBatchInserter = jpaBatchInserter;
+        this.reviewDailyStatsService = reviewDailyStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.queueCapacity = Math.max(queueCapacity, 1);
+        this.classifierThreads = classifierThreads > 0 ? classifierThreads : Runtime.getRuntime().availableProcessors();
+        resetQueues();
+    }
+
+    /**
+     * resource(store_list.My_store / Competitor)의 리뷰를 분석하여 저장 (끝날 때까지 대기)
+     * - 매장은 place_id 로 찾고 없으면 생성, 리뷰는 실행할 때마다 추가됨
+     * - 한 번에 하나만 실행 (실행 중이면 IllegalStateException)
+     * @return 저장한 리뷰 수
+     */
+    public long run(String resource) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("리뷰 적재 파이프라인이 이미 실행 중입니다.");
+        }
+        resetStats();
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(classifierThreads + 3, runnable -> {
+            Thread thread = new Thread(runnable, "review-ingestion-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ExecutorCompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+        try (InputStream input = new ClassPathResource(resource).getInputStream()) {
+            int stageCount = 0;
+            stages.submit(() -> parse(input));
+            stageCount++;
+            stages.submit(this::preprocess);
+            stageCount++;
+            for (int i = 0; i < classifierThreads; i++) {
+                stages.submit(this::classify);
+                stageCount++;
+            }
+            stages.submit(this::persist);
+            stageCount++;
+
+            // 한 단계라도 실패하면 나머지 단계를 인터럽트로 중단 (큐에서 대기 중인 단계도 깨어남)
+            for (int i = 0; i < stageCount; i++) {
+                stages.take().get();
+            }
+            log.info("✅ 리뷰 적재 파이프라인 완료: {}건 저장 ({}ms, 분류 실패 {}건)",
+                    persistedCount.get(), System.currentTimeMillis() - startedAt, classificationFailureCount.get());
+            return persistedCount.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            lastError = cause.getMessage();
+            log.error("❌ 리뷰 적재 파이프라인 실패: {}", cause.getMessage());
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IOException e) {
+            lastError = e.getMessage();
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = "interrupted";
+            throw new IllegalStateException("리뷰 적재 파이프라인이 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+            finishedAt = System.currentTimeMillis();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 파이프라인 상태 (단계별 처리 건수, 큐 적재량, 처리량)
+     */
+    public Map<String, Object> getStats() {
+        long end = running.get() ? System.currentTimeMillis() : finishedAt;
+        long elapsedMillis = startedAt > 0 ? Math.max(end - startedAt, 0) : 0;
+        long persisted = persistedCount.get();
+
+        Map<String, Object> stages = new HashMap<>();
+        stages.put("parsed", parsedCount.get());
+        stages.put("preprocessed", preprocessedCount.get());
+        stages.put("classified", classifiedCount.get());
+        stages.put("classificationFailures", classificationFailureCount.get());
+        stages.put("persisted", persisted);
+
+        Map<String, Object> queueDepth = new HashMap<>();
+        queueDepth.put("preprocess", preprocessQueue.size());
+        queueDepth.put("classify", classifyQueue.size());
+        queueDepth.put("persist", persistQueue.size());
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("running", running.get());
+        stats.put("classifierThreads", classifierThreads);
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("batchSize", jpaBatchInserter.getBatchSize());
+        stats.put("stages", stages);
+        stats.put("queueDepth", queueDepth);
+        stats.put("elapsedMillis", elapsedMillis);
+        stats.put("reviewsPerSecond", elapsedMillis > 0 ? persisted * 1000.0 / elapsedMillis : 0.0);
+        stats.put("lastError", lastError);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ExecutorService current = executor;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    private void resetStats() {
+        parsedCount.set(0);
+        preprocessedCount.set(0);
+        classifiedCount.set(0);
+        classificationFailureCount.set(0);
+        persistedCount.set(0);
+        resetQueues();
+        lastError = null;
+        startedAt = System.currentTimeMillis();
+        finishedAt = 0;
+    }
+
+    private void resetQueues() {
+        preprocessQueue = new ArrayBlockingQueue<>(queueCapacity);
+        classifyQueue = new ArrayBlockingQueue<>(queueCapacity);
+        persistQueue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 1단계: store_list 를 스트리밍으로 읽어 매장 1곳씩 Store 를 확보하고 리뷰 원문을 전달
+     */
+    private Void parse(InputStream input) throws IOException, InterruptedException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("JSON 최상위가 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("store_list".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    parseStoreList(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } finally {
+            preprocessQueue.put(END);
+        }
+        return null;
+    }
+
+    private void parseStoreList(JsonParser parser) throws IOException, InterruptedException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("My_store".equals(field) && token == JsonToken.START_OBJECT) {
+                emitStoreReviews(objectMapper.readTree(parser), "MY_STORE");
+            } else if ("Competitor".equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    emitStoreReviews(objectMapper.readTree(parser), "COMPETITOR");
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void emitStoreReviews(JsonNode storeNode, String storeType) throws InterruptedException {
+        JsonNode reviewsNode = storeNode.path("reviews");
+        if (!reviewsNode.isArray()) {
+            log.warn("⚠️ 리뷰 데이터가 배열이 아닙니다: {}", storeNode.path("place_name").asText());
+            return;
+        }
+        Store store = findOrCreateStore(
+                storeNode.path("place_id").asText(),
+                storeNode.path("place_name").asText(),
+                storeNode.path("count").asInt(),
+                storeType);
+        for (JsonNode reviewNode : reviewsNode) {
+            preprocessQueue.put(new ReviewTask(store.getId(), reviewNode.asText(), null));
+            parsedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 2단계: 텍스트 전처리 (빈 리뷰는 버림)
+     */
+    private Void preprocess() throws InterruptedException {
+        try {
+            for (ReviewTask task = preprocessQueue.take(); task != END; task = preprocessQueue.take()) {
+                String cleaned = preprocessReviewText(task.text());
+                if (!cleaned.isEmpty()) {
+                    classifyQueue.put(new ReviewTask(task.storeId(), cleaned, null));
+                }
+                preprocessedCount.incrementAndGet();
+            }
+        } finally {
+            for (int i = 0; i < classifierThreads; i++) {
+                classifyQueue.put(END);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 3단계: 이진 감성 분류 (classifier-threads 개 스레드가 같은 큐를 나눠서 처리)
+     */
+    private Void classify() throws InterruptedException {
+        try {
+            for (ReviewTask task = classifyQueue.take(); task != END; task = classifyQueue.take()) {
+                persistQueue.put(new ReviewTask(task.storeId(), task.text(), performBinaryClassification(task.text())));
+                classifiedCount.incrementAndGet();
+            }
+        } finally {
+            persistQueue.put(END);
+        }
+        return null;
+    }
+
+    /**
+     * 4단계: batch-size 건씩 모아 저장 (모든 분류 스레드가 끝나면 남은 건 저장 후 종료)
+     */
+    private Void persist() throws InterruptedException {
+        int batchSize = jpaBatchInserter.getBatchSize();
+        List<ReviewTask> batch = new ArrayList<>(batchSize);
+        int remainingProducers = classifierThreads;
+        while (remainingProducers > 0) {
+            ReviewTask task = persistQueue.take();
+            if (task == END) {
+                remainingProducers--;
+                continue;
+            }
+            batch.add(task);
+            if (batch.size() == batchSize) {
+                saveBatch(batch);
+            }
+        }
+        saveBatch(batch);
+        return null;
+    }
+
+    private void saveBatch(List<ReviewTask> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        ReviewDailyStatsService.Delta dailyStats = new ReviewDailyStatsService.Delta();
+        for (ReviewTask task : batch) {
+            dailyStats.add(task.storeId(), now, task.sentiment());
+        }
+        // 리뷰와 일별 리뷰 통계를 한 트랜잭션에서 저장
+        transactionTemplate.executeWithoutResult(status -> {
+            persistedCount.addAndGet(jpaBatchInserter.insertAll(batch, task -> Review.builder()
+                    .store(storeRepository.getReferenceById(task.storeId()))
+                    .content(task.text())
+                    .sentiment(task.sentiment())
+                    .createdAt(now)
+                    .build()));
+            reviewDailyStatsService.apply(dailyStats);
+        });
+        batch.clear();
+    }
+
+    /**
+     * 이진 분류 감성 분석 (POSITIVE/NEGATIVE만)
+     * - 한국어: 주요 키워드 문장 기준 → 없으면 전체 감성 매핑, 그 외: CoreNLP 감성 매핑 (NEUTRAL 은 POSITIVE)
+     * - 분석 실패(영어 분석 대기열 초과 등) 시 긍정으로 처리
+     */
+    private String performBinaryClassification(String reviewText) {
+        try {
+            return (String) reviewAnalysisService.analyzeBinary(reviewText).get("label");
+        } catch (Exception e) {
+            classificationFailureCount.incrementAndGet();
+            log.debug("감성 분석 오류: {}", e.getMessage());
+            return "POSITIVE";
+        }
+    }
+
+    /**
+     * Store를 찾거나 생성 (place_id 기준 중복 방지)
+     */
+    private Store findOrCreateStore(String placeId, String placeName, int reviewCount, String storeType) {
+        return storeRepository.findByPlaceId(placeId)
+                .map(store -> {
+                    log.info("🏪 기존 Store 사용: {} ({})", placeName, storeType);
+                    return store;
+                })
+                .orElseGet(() -> {
+                    Store store = storeRepository.save(Store.builder()
+                            .placeId(placeId)
+                            .storeName(placeName)
+                            .reviewCount(reviewCount)
+                            .user(findOrCreateUser())
+                            .build());
+                    log.info("🏪 새 Store 생성: {} ({})", placeName, storeType);
+                    return store;
+                });
+    }
+
+    /**
+     * 리뷰 적재용 기본 User를 찾거나 생성
+     */
+    private User findOrCreateUser() {
+        return userRepository.findByUsername(DEFAULT_USERNAME)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username(DEFAULT_USERNAME)
+                        .password(DEFAULT_PASSWORD)
+                        .build()));
+    }
+
+    /**
+     * 리뷰 텍스트 전처리 (이모지/특수문자 제거, 공백 정리)
+     */
+    private static String preprocessReviewText(String reviewText) {
+        if (reviewText == null || reviewText.trim().isEmpty()) {
+            return "";
+        }
+
+        // 1. 이모지 및 특수문자 정리
+        String cleaned = reviewText.replaceAll("[^가-힣a-zA-Z0-9\\s]", " ");
+
+        // 2. 연속된 공백(줄바꿈 포함) 제거
+        cleaned = cleaned.replaceAll("\\s+", " ");
+
+        // 3. 앞뒤 공백 제거
+        return cleaned.trim();
+    }
+}
@@ -0,0 +1,140 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.repository.ReviewDailyStatsRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * [NEW] 매장별 리뷰 추이 (기간 단위 리뷰 수 / 감정별 리뷰 수)
+ * - 일별 롤업(review_daily_stats)을 기간 단위로 합산 (조회 비용은 리뷰 수가 아니라 일 수에 비례)
+ * - 리뷰가 없는 기간도 0 건으로 채워서 반환
+ */
+@Service
+public class ReviewTrendService {
+
+    // 한 번에 조회할 수 있는 최대 기간 수 (day 단위 약 3년)
+    public static final int MAX_BUCKETS = 1100;
+
+    /**
+     * 집계 기간 단위 (name 은 PostgreSQL date_trunc 단위, week 는 월요일 시작)
+     */
+    public enum Granularity {
+        DAY, WEEK, MONTH;
+
+        public static Granularity from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported granularity: " + value + " (day, week, month)");
+            }
+        }
+
+        String unit() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        LocalDate truncate(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        LocalDate next(LocalDate period) {
+            return switch (this) {
+                case DAY -> period.plusDays(1);
+                case WEEK -> period.plusWeeks(1);
+                case MONTH -> period.plusMonths(1);
+            };
+        }
+
+        long between(LocalDate from, LocalDate to) {
+            return switch (this) {
+                case DAY -> ChronoUnit.DAYS.between(from, to);
+                case WEEK -> ChronoUnit.WEEKS.between(truncate(from), truncate(to));
+                case MONTH -> ChronoUnit.MONTHS.between(truncate(from), truncate(to));
+            } + 1;
+        }
+    }
+
+    /**
+     * 기간 1개의 리뷰 수
+     * - period 는 기간 시작일(주/월의 첫날), from/to 는 실제로 합산한 날짜 범위 (양끝 포함)
+     * - 조회 범위 양끝의 주/월은 일부 날짜만 합산하므로 from/to 가 기간 전체보다 좁을 수 있음
+     */
+    public record Bucket(LocalDate period, LocalDate from, LocalDate to, long total, long positive, long negative, long neutral) {
+    }
+
+    private final ReviewDailyStatsRepository reviewDailyStatsRepository;
+
+    public ReviewTrendService(ReviewDailyStatsRepository reviewDailyStatsRepository) {
+        this.reviewDailyStatsRepository = reviewDailyStatsRepository;
+    }
+
+    /**
+     * 매장의 [from, to] (양끝 포함) 리뷰 추이
+     * - 기간 경계는 넓히지 않음 (각 Bucket 의 from/to 로 부분 기간 여부를 구분)
+     */
+    public List<Bucket> getTrend(Long storeId, LocalDate from, LocalDate to, Granularity granularity) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to: " + from + " > " + to);
+        }
+        if (granularity.between(from, to) > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Too many " + granularity.unit() + " buckets (max " + MAX_BUCKETS + ")");
+        }
+
+        // 기간 시작일 → [positive, negative, neutral]
+        Map<LocalDate, long[]> counts = new LinkedHashMap<>();
+        for (LocalDate period = granularity.truncate(from); !period.isAfter(to); period = granularity.next(period)) {
+            counts.put(period, new long[3]);
+        }
+        for (Object[] row : reviewDailyStatsRepository.sumByStoreIdGroupByPeriod(storeId, granularity.unit(), from, to)) {
+            long[] sentimentCounts = counts.get(toLocalDate(row[0]));
+            if (sentimentCounts != null) {
+                for (int i = 0; i < 3; i++) {
+                    sentimentCounts[i] += ((Number) row[i + 1]).longValue();
+                }
+            }
+        }
+
+        List<Bucket> buckets = new ArrayList<>(counts.size());
+        counts.forEach((period, c) -> {
+            LocalDate bucketFrom = period.isBefore(from) ? from : period;
+            LocalDate periodEnd = granularity.next(period).minusDays(1);
+            LocalDate bucketTo = periodEnd.isAfter(to) ? to : periodEnd;
+            buckets.add(new Bucket(period, bucketFrom, bucketTo, c[0] + c[1] + c[2], c[0], c[1], c[2]));
+        });
+        return buckets;
+    }
+
+    /**
+     * 매장의 하루 리뷰 수
+     */
+    public long countOn(Long storeId, LocalDate date) {
+        return reviewDailyStatsRepository.sumReviewCountByStoreIdAndDate(storeId, date);
+    }
+
+    /**
+     * 매장의 전체 리뷰 수 (작성 시각이 없는 리뷰는 롤업 대상이 아니므로 제외)
+     */
+    public long countAll(Long storeId) {
+        return reviewDailyStatsRepository.sumReviewCountByStoreId(storeId);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
@@ -0,0 +1,190 @@
+package com.reviewgenie.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 패턴 문자열 매처 (Aho-Corasick 오토마톤)
+ * - 등록된 모든 패턴을 텍스트 1회 선형 스캔으로 탐색
+ * - 각 패턴은 int 비트마스크(카테고리)를 가지며, 매칭 결과는 마스크의 OR 로 반환
+ * - 생성 후 불변(immutable)이므로 여러 스레드에서 공유 가능
+ */
+public final class AhoCorasickMatcher {
+
+    /**
+     * 매칭 위치 콜백
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+        /**
+         * @param end  매칭이 끝난 위치 (exclusive)
+         * @param mask 해당 위치에서 끝나는 모든 패턴의 마스크 OR
+         */
+        void onMatch(int end, int mask);
+    }
+
+    // 노드별 자식 전이 (labels 는 정렬되어 있어 이진 탐색)
+    private final char[][] labels;
+    private final int[][] children;
+    private final int[] failure;
+    // 실패 링크를 따라 도달 가능한 모든 패턴의 마스크를 미리 합쳐 둔 값
+    private final int[] outputs;
+
+    private AhoCorasickMatcher(char[][] labels, int[][] children, int[] failure, int[] outputs) {
+        this.labels = labels;
+        this.children = children;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 텍스트 전체에서 발견된 모든 패턴의 마스크 OR
+     */
+    public int match(CharSequence text) {
+        return match(text, 0, text.length());
+    }
+
+    /**
+     * text[start, end) 구간에서 발견된 모든 패턴의 마스크 OR
+     * (String.contains 를 패턴마다 호출한 결과와 동일)
+     */
+    public int match(CharSequence text, int start, int end) {
+        int state = 0;
+        int mask = 0;
+        for (int i = start; i < end; i++) {
+            state = next(state, text.charAt(i));
+            mask |= outputs[state];
+        }
+        return mask;
+    }
+
+    /**
+     * text[start, end) 구간을 1회 스캔하며 패턴이 끝나는 위치마다 콜백 호출
+     */
+    public void forEachMatch(CharSequence text, int start, int end, MatchHandler handler) {
+        int state = 0;
+        for (int i = start; i < end; i++) {
+            state = next(state, text.charAt(i));
+            if (outputs[state] != 0) {
+                handler.onMatch(i + 1, outputs[state]);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int child = child(state, c);
+            if (child >= 0) {
+                return child;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failure[state];
+        }
+    }
+
+    private int child(int state, char c) {
+        int idx = Arrays.binarySearch(labels[state], c);
+        return idx >= 0 ? children[state][idx] : -1;
+    }
+
+    /**
+     * 패턴 등록 후 build() 로 오토마톤을 컴파일
+     */
+    public static final class Builder {
+
+        private final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        private final List<Integer> masks = new ArrayList<>();
+
+        private Builder() {
+            newNode();
+        }
+
+        /**
+         * 패턴 등록 (같은 패턴을 여러 번 등록하면 마스크가 OR 로 합쳐짐)
+         */
+        public Builder add(String pattern, int mask) {
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("빈 패턴은 등록할 수 없습니다.");
+            }
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer child = trie.get(node).get(c);
+                if (child == null) {
+                    child = newNode();
+                    trie.get(node).put(c, child);
+                }
+                node = child;
+            }
+            masks.set(node, masks.get(node) | mask);
+            return this;
+        }
+
+        /**
+         * 여러 패턴을 같은 마스크로 등록
+         */
+        public Builder addAll(Iterable<String> patterns, int mask) {
+            for (String pattern : patterns) {
+                add(pattern, mask);
+            }
+            return this;
+        }
+
+        public AhoCorasickMatcher build() {
+            int size = trie.size();
+            char[][] labels = new char[size][];
+            int[][] children = new int[size][];
+            int[] failure = new int[size];
+            int[] outputs = new int[size];
+
+            for (int node = 0; node < size; node++) {
+                TreeMap<Character, Integer> edges = trie.get(node);
+                labels[node] = new char[edges.size()];
+                children[node] = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    labels[node][i] = edge.getKey();
+                    children[node][i] = edge.getValue();
+                    i++;
+                }
+                outputs[node] = masks.get(node);
+            }
+
+            // BFS 로 실패 링크 계산 및 출력 마스크 전파
+            AhoCorasickMatcher matcher = new AhoCorasickMatcher(labels, children, failure, outputs);
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : children[0]) {
+                failure[child] = 0;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int i = 0; i < labels[node].length; i++) {
+                    char c = labels[node][i];
+                    int child = children[node][i];
+                    failure[child] = matcher.next(failure[node], c);
+                    outputs[child] |= outputs[failure[child]];
+                    queue.add(child);
+                }
+            }
+            return matcher;
+        }
+
+        private int newNode() {
+            trie.add(new TreeMap<>());
+            masks.add(0);
+            return trie.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.reviewgenie.util;
+
+/**
+ * 64비트 문자열 해시 (FNV-1a + 최종 비트 섞기)
+ * - 객체 생성 없이 문자 단위로 누적할 수 있어 정규화와 해싱을 1회 순회로 처리 가능
+ * - 암호학적 해시가 아니므로 캐시 키/버전 식별 용도로만 사용
+ */
+public final class ContentHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ContentHash() {
+    }
+
+    /**
+     * 누적 시작값
+     */
+    public static long start() {
+        return FNV_OFFSET_BASIS;
+    }
+
+    /**
+     * 문자 1개 누적
+     */
+    public static long update(long hash, char c) {
+        return (hash ^ c) * FNV_PRIME;
+    }
+
+    /**
+     * 누적 종료 (murmur3 fmix64 로 상위/하위 비트를 고르게 섞음)
+     */
+    public static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    public static long of(CharSequence text) {
+        long hash = start();
+        for (int i = 0; i < text.length(); i++) {
+            hash = update(hash, text.charAt(i));
+        }
+        return finish(hash);
+    }
+}
@@ -0,0 +1,152 @@
+package com.reviewgenie.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 대용량 JSON 배열 스트리밍 리더
+ * - {"data": [ {...}, {...} ], ...} 형태에서 지정한 필드의 배열 원소를 1건씩 읽음
+ * - 파일 전체를 트리로 만들지 않고 Jackson JsonParser 토큰 단위로 탐색하며, 원소 1건만 JsonNode 로 변환
+ * - 메모리 사용량은 파일 크기와 무관하게 원소 1건 크기로 일정
+ * - 한 번만 순회 가능 (iterator() 재호출 불가), 사용 후 close
+ */
+public final class JsonRecordReader implements Iterable<JsonNode>, Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private JsonNode next;
+    private boolean finished;
+    private boolean iterated;
+    private long count;
+
+    private JsonRecordReader(ObjectMapper objectMapper, JsonParser parser) {
+        this.objectMapper = objectMapper;
+        this.parser = parser;
+    }
+
+    /**
+     * 최상위 객체의 arrayField 배열 위치까지 이동한 리더 생성
+     * (필드가 없거나 배열이 아니면 원소가 없는 리더)
+     */
+    public static JsonRecordReader open(ObjectMapper objectMapper, InputStream inputStream, String arrayField) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(inputStream);
+        JsonRecordReader reader = new JsonRecordReader(objectMapper, parser);
+        try {
+            reader.finished = !reader.seekArray(arrayField);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    private boolean seekArray(String arrayField) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (arrayField.equals(name)) {
+                return value == JsonToken.START_ARRAY;
+            }
+            // 다른 필드는 값 전체를 건너뜀 (객체/배열도 트리로 만들지 않음)
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 앞에서부터 n 건을 트리로 만들지 않고 건너뜀 (체크포인트 재개용, 건너뛴 원소도 getCount 에 포함)
+     * @return 실제로 건너뛴 건수 (배열이 먼저 끝나면 n 보다 작음)
+     */
+    public long skip(long n) throws IOException {
+        if (iterated) {
+            throw new IllegalStateException("순회를 시작하기 전에만 건너뛸 수 있습니다.");
+        }
+        long skipped = 0;
+        while (skipped < n && !finished) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                finished = true;
+                break;
+            }
+            parser.skipChildren();
+            skipped++;
+        }
+        count += skipped;
+        return skipped;
+    }
+
+    /**
+     * 지금까지 읽은 원소 수
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 마지막으로 읽은 원소 끝의 바이트 오프셋 (체크포인트 기록용)
+     */
+    public long getByteOffset() {
+        return parser.currentLocation().getByteOffset();
+    }
+
+    @Override
+    public Iterator<JsonNode> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("JsonRecordReader 는 한 번만 순회할 수 있습니다.");
+        }
+        iterated = true;
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (next == null && !finished) {
+                    next = readNext();
+                }
+                return next != null;
+            }
+
+            @Override
+            public JsonNode next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                JsonNode record = next;
+                next = null;
+                count++;
+                return record;
+            }
+        };
+    }
+
+    private JsonNode readNext() {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                finished = true;
+                return null;
+            }
+            // 원소 1건만 트리로 변환 (파서는 원소의 마지막 토큰에 위치)
+            return objectMapper.readTree(parser);
+        } catch (IOException e) {
+            finished = true;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        parser.close();
+    }
+}
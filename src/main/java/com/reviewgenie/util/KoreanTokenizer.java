@@ -0,0 +1,175 @@
+package com.reviewgenie.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정규식 없는 한국어 토크나이저 (문자 클래스 스캐너)
+ * - 텍스트를 1회 순회하며 토큰/문장 경계를 offset 으로만 기록
+ * - 문자열은 필요할 때만 생성 (TextSpans.get / toList)
+ * - 토큰: 한글 음절(가-힣), 영문, 숫자의 연속 구간 (기존 tokenizeSimple 정규식과 동일)
+ * - 문장: 마침표, 물음표, 느낌표, 줄바꿈으로 구분 후 앞뒤 공백 제거 (기존 splitSentences 와 동일)
+ */
+public final class KoreanTokenizer {
+
+    private static final char HANGUL_SYLLABLE_FIRST = '가';
+    private static final char HANGUL_SYLLABLE_LAST = '힣';
+
+    private KoreanTokenizer() {
+    }
+
+    public static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_SYLLABLE_FIRST && c <= HANGUL_SYLLABLE_LAST;
+    }
+
+    /**
+     * 토큰을 구성하는 문자 여부 (한글 음절, 영문, 숫자)
+     */
+    public static boolean isTokenChar(char c) {
+        if (c < 128) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+        return isHangulSyllable(c);
+    }
+
+    public static boolean isSentenceDelimiter(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '\n';
+    }
+
+    /**
+     * 토큰 경계 추출
+     */
+    public static TextSpans tokenize(String text) {
+        if (text == null) {
+            return TextSpans.EMPTY;
+        }
+        TextSpans.Builder spans = new TextSpans.Builder(text);
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i < length; i++) {
+            if (isTokenChar(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                spans.add(start, i);
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            spans.add(start, length);
+        }
+        return spans.build();
+    }
+
+    /**
+     * 문장 경계 추출 (앞뒤 공백을 제외한 비어 있지 않은 구간만)
+     */
+    public static TextSpans sentences(String text) {
+        if (text == null) {
+            return TextSpans.EMPTY;
+        }
+        TextSpans.Builder spans = new TextSpans.Builder(text);
+        int length = text.length();
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || isSentenceDelimiter(text.charAt(i))) {
+                addTrimmed(spans, text, segmentStart, i);
+                segmentStart = i + 1;
+            }
+        }
+        return spans.build();
+    }
+
+    // String.trim() 과 같은 기준 (코드값 ' ' 이하 문자 제거)
+    private static void addTrimmed(TextSpans.Builder spans, String text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start < end) {
+            spans.add(start, end);
+        }
+    }
+
+    /**
+     * 원문 위의 [start, end) 구간 목록 (불변)
+     */
+    public static final class TextSpans {
+
+        static final TextSpans EMPTY = new TextSpans("", new int[0], new int[0]);
+
+        private final String source;
+        private final int[] starts;
+        private final int[] ends;
+
+        private TextSpans(String source, int[] starts, int[] ends) {
+            this.source = source;
+            this.starts = starts;
+            this.ends = ends;
+        }
+
+        public int size() {
+            return starts.length;
+        }
+
+        public boolean isEmpty() {
+            return starts.length == 0;
+        }
+
+        public int start(int index) {
+            return starts[index];
+        }
+
+        public int end(int index) {
+            return ends[index];
+        }
+
+        /**
+         * 구간 문자열 (호출 시점에 생성)
+         */
+        public String get(int index) {
+            return source.substring(starts[index], ends[index]);
+        }
+
+        public List<String> toList() {
+            List<String> list = new ArrayList<>(starts.length);
+            for (int i = 0; i < starts.length; i++) {
+                list.add(get(i));
+            }
+            return list;
+        }
+
+        private static final class Builder {
+
+            private final String source;
+            private int[] starts = new int[16];
+            private int[] ends = new int[16];
+            private int size;
+
+            private Builder(String source) {
+                this.source = source;
+            }
+
+            private void add(int start, int end) {
+                if (size == starts.length) {
+                    starts = Arrays.copyOf(starts, size * 2);
+                    ends = Arrays.copyOf(ends, size * 2);
+                }
+                starts[size] = start;
+                ends[size] = end;
+                size++;
+            }
+
+            private TextSpans build() {
+                if (size == 0) {
+                    return EMPTY;
+                }
+                return new TextSpans(source, Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.reviewgenie.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 접미사 검사용 역방향 트라이
+ * - 접미사를 뒤집어 저장하고, 단어의 끝에서부터 거꾸로 몇 글자만 따라가며 판별
+ * - ".*(A|B|...)$" 형태의 정규식을 대체 (백트래킹/객체 생성 없음)
+ * - 생성 후 불변(immutable)이므로 여러 스레드에서 공유 가능
+ */
+public final class SuffixTrie {
+
+    // 노드별 자식 전이 (labels 는 정렬되어 있어 이진 탐색)
+    private final char[][] labels;
+    private final int[][] children;
+    private final boolean[] terminal;
+
+    private SuffixTrie(char[][] labels, int[][] children, boolean[] terminal) {
+        this.labels = labels;
+        this.children = children;
+        this.terminal = terminal;
+    }
+
+    public static SuffixTrie of(Iterable<String> suffixes) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> terminals = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(false);
+
+        for (String suffix : suffixes) {
+            if (suffix == null || suffix.isEmpty()) {
+                throw new IllegalArgumentException("빈 접미사는 등록할 수 없습니다.");
+            }
+            int node = 0;
+            for (int i = suffix.length() - 1; i >= 0; i--) {
+                Integer child = trie.get(node).get(suffix.charAt(i));
+                if (child == null) {
+                    trie.add(new TreeMap<>());
+                    terminals.add(false);
+                    child = trie.size() - 1;
+                    trie.get(node).put(suffix.charAt(i), child);
+                }
+                node = child;
+            }
+            terminals.set(node, true);
+        }
+
+        int size = trie.size();
+        char[][] labels = new char[size][];
+        int[][] children = new int[size][];
+        boolean[] terminal = new boolean[size];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            labels[node] = new char[edges.size()];
+            children[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[node][i] = edge.getKey();
+                children[node][i] = edge.getValue();
+                i++;
+            }
+            terminal[node] = terminals.get(node);
+        }
+        return new SuffixTrie(labels, children, terminal);
+    }
+
+    /**
+     * 등록된 접미사 중 하나로 끝나는지 여부
+     */
+    public boolean matches(CharSequence text) {
+        return matches(text, 0, text.length());
+    }
+
+    /**
+     * text[start, end) 가 등록된 접미사 중 하나로 끝나는지 여부
+     */
+    public boolean matches(CharSequence text, int start, int end) {
+        int node = 0;
+        for (int i = end - 1; i >= start; i--) {
+            node = child(node, text.charAt(i));
+            if (node < 0) {
+                return false;
+            }
+            if (terminal[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * text[start, end) 의 끝에 붙은 가장 긴 접미사 길이 (없으면 0)
+     */
+    public int longestMatch(CharSequence text, int start, int end) {
+        int node = 0;
+        int longest = 0;
+        for (int i = end - 1; i >= start; i--) {
+            node = child(node, text.charAt(i));
+            if (node < 0) {
+                break;
+            }
+            if (terminal[node]) {
+                longest = end - i;
+            }
+        }
+        return longest;
+    }
+
+    private int child(int node, char c) {
+        int idx = Arrays.binarySearch(labels[node], c);
+        return idx >= 0 ? children[node][idx] : -1;
+    }
+}
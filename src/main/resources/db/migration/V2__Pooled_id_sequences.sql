@@ -0,0 +1,7 @@
+-- V2__Pooled_id_sequences.sql
+-- 대량 INSERT 대상 테이블의 ID 시퀀스를 50 단위로 할당 (엔티티 @SequenceGenerator allocationSize = 50 과 일치)
+-- SERIAL 기본값(nextval)으로 INSERT 하는 경우에도 Hibernate 가 할당한 구간과 겹치지 않음
+
+ALTER SEQUENCE review_review_id_seq INCREMENT BY 50;
+ALTER SEQUENCE top_general_keyword_top_keyword_id_seq INCREMENT BY 50;
+ALTER SEQUENCE core_keyword_sentiment_sentiment_id_seq INCREMENT BY 50;
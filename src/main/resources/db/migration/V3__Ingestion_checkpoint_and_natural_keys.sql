@@ -0,0 +1,17 @@
+-- V3__Ingestion_checkpoint_and_natural_keys.sql
+-- 재개 가능한 초기 데이터 적재: 파일별 체크포인트 + upsert(ON CONFLICT) 용 자연키
+
+-- 원본 파일별 적재 진행 위치 (적재 데이터와 같은 트랜잭션에서 갱신)
+CREATE TABLE ingestion_checkpoint (
+    source VARCHAR(255) PRIMARY KEY,
+    record_offset BIGINT NOT NULL,
+    byte_offset BIGINT NOT NULL,
+    completed BOOLEAN NOT NULL,
+    updated_at TIMESTAMP
+);
+
+-- 자연키
+ALTER TABLE "user" ADD CONSTRAINT uk_user_username UNIQUE (username);
+ALTER TABLE keyword ADD CONSTRAINT uk_keyword_keyword_name UNIQUE (keyword_name);
+ALTER TABLE top_general_keyword ADD CONSTRAINT uk_top_general_keyword_store_keyword UNIQUE (store_id, keyword);
+ALTER TABLE core_keyword_sentiment ADD CONSTRAINT uk_core_keyword_sentiment_store_keyword UNIQUE (store_id, keyword_id);
@@ -0,0 +1,4 @@
+-- V4__Review_created_at_index.sql
+-- 최신순 리뷰 목록 / 키셋 페이지네이션 ((created_at, review_id) 커서) 용 인덱스
+
+CREATE INDEX idx_review_created_at_review_id ON review (created_at DESC, review_id DESC);
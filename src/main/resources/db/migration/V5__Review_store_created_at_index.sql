@@ -0,0 +1,4 @@
+-- V5__Review_store_created_at_index.sql
+-- 매장별 기간 리뷰 수 집계 (리뷰 추이, 오늘 리뷰 수) 용 인덱스
+
+CREATE INDEX idx_review_store_id_created_at ON review (store_id, created_at);
@@ -0,0 +1,23 @@
+-- V6__Review_daily_stats.sql
+-- 매장별 일별 리뷰 수 롤업 (리뷰 추이 / 오늘 리뷰 수 / 대시보드)
+-- neutral_count 는 POSITIVE/NEGATIVE 가 아닌 리뷰
+
+CREATE TABLE review_daily_stats (
+    store_id BIGINT NOT NULL REFERENCES store(id),
+    stat_date DATE NOT NULL,
+    review_count BIGINT NOT NULL,
+    positive_count BIGINT NOT NULL,
+    negative_count BIGINT NOT NULL,
+    neutral_count BIGINT NOT NULL,
+    PRIMARY KEY (store_id, stat_date)
+);
+
+-- 기존 리뷰로 초기 집계
+INSERT INTO review_daily_stats (store_id, stat_date, review_count, positive_count, negative_count, neutral_count)
+SELECT store_id, CAST(created_at AS date), COUNT(*),
+       COUNT(*) FILTER (WHERE sentiment = 'POSITIVE'),
+       COUNT(*) FILTER (WHERE sentiment = 'NEGATIVE'),
+       COUNT(*) FILTER (WHERE sentiment IS NULL OR sentiment NOT IN ('POSITIVE', 'NEGATIVE'))
+FROM review
+WHERE store_id IS NOT NULL AND created_at IS NOT NULL
+GROUP BY store_id, CAST(created_at AS date);
@@ -0,0 +1,4 @@
+-- V7__Top_general_keyword_store_frequency_index.sql
+-- 매장별 빈도순 상위 키워드 (ORDER BY frequency DESC LIMIT N) 용 인덱스
+
+CREATE INDEX idx_top_general_keyword_store_frequency ON top_general_keyword (store_id, frequency DESC);
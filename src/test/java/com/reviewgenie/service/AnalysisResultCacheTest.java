@@ -0,0 +1,99 @@
+package com.reviewgenie.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisResultCacheTest {
+
+    private static final long MAX_WEIGHT_BYTES = 1024 * 1024;
+
+    @Test
+    void get_HashCollision_AnalyzesTextInsteadOfReturningOtherEntry() {
+        // Given - 모든 텍스트가 같은 키를 갖도록 해 해시 충돌 재현
+        AnalysisResultCache.Key collidingKey = new AnalysisResultCache.Key(AnalysisResultCache.Kind.SENTIMENT, 42L, 4);
+        AnalysisResultCache cache = new AnalysisResultCache(true, MAX_WEIGHT_BYTES, Duration.ofMinutes(1),
+                (kind, text) -> collidingKey);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        String first = cache.get(AnalysisResultCache.Kind.SENTIMENT, "맛있어요", text -> {
+            loads.incrementAndGet();
+            return "POSITIVE:" + text;
+        });
+        String colliding = cache.get(AnalysisResultCache.Kind.SENTIMENT, "별로예요", text -> {
+            loads.incrementAndGet();
+            return "NEGATIVE:" + text;
+        });
+        String again = cache.get(AnalysisResultCache.Kind.SENTIMENT, "맛있어요", text -> {
+            loads.incrementAndGet();
+            return "UNEXPECTED";
+        });
+
+        // Then - 충돌한 텍스트는 직접 분석하고, 저장된 항목은 그대로 유지
+        assertEquals("POSITIVE:맛있어요", first);
+        assertEquals("NEGATIVE:별로예요", colliding);
+        assertEquals("POSITIVE:맛있어요", again);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_SpacesAndTabsNormalized_NewlinesKept() {
+        // Given
+        AnalysisResultCache cache = new AnalysisResultCache(true, MAX_WEIGHT_BYTES, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(AnalysisResultCache.Kind.SENTIMENT, "맛있어요 최고", text -> "L" + loads.incrementAndGet());
+        String spaced = cache.get(AnalysisResultCache.Kind.SENTIMENT, " \t맛있어요 \t  최고\t", text -> "L" + loads.incrementAndGet());
+        String newline = cache.get(AnalysisResultCache.Kind.SENTIMENT, "맛있어요\n최고", text -> "L" + loads.incrementAndGet());
+
+        // Then
+        assertEquals("L1", spaced);
+        assertEquals("L2", newline);
+        assertEquals(2, loads.get());
+        assertEquals("맛있어요 최고", AnalysisResultCache.normalize("\t맛있어요  \t최고 "));
+        assertTrue(AnalysisResultCache.sameNormalizedText("맛있어요 최고", "맛있어요\t\t최고"));
+        assertFalse(AnalysisResultCache.sameNormalizedText("맛있어요 최고", "맛있어요최고"));
+        assertEquals(AnalysisResultCache.keyOf(AnalysisResultCache.Kind.REVIEW, "a  b"),
+                AnalysisResultCache.keyOf(AnalysisResultCache.Kind.REVIEW, "\ta b "));
+    }
+
+    @Test
+    void get_NestedCollectionsAreReadOnly() {
+        // Given
+        AnalysisResultCache cache = new AnalysisResultCache(true, MAX_WEIGHT_BYTES, Duration.ofMinutes(1));
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("맛", 2L);
+
+        // When
+        Map<String, Object> result = cache.get(AnalysisResultCache.Kind.REVIEW, "맛있어요", text -> {
+            Map<String, Object> rankings = new HashMap<>();
+            rankings.put("generalKeywordsRank", new ArrayList<>(counts.entrySet()));
+            Map<String, Object> value = new HashMap<>();
+            value.put("keywordRankings", rankings);
+            value.put("tokens", new ArrayList<>(List.of("맛")));
+            return value;
+        });
+
+        // Then
+        @SuppressWarnings("unchecked")
+        Map<String, Object> rankings = (Map<String, Object>) result.get("keywordRankings");
+        @SuppressWarnings("unchecked")
+        List<Map.Entry<String, Long>> ranks = (List<Map.Entry<String, Long>>) rankings.get("generalKeywordsRank");
+        @SuppressWarnings("unchecked")
+        List<String> tokens = (List<String>) result.get("tokens");
+        assertThrows(UnsupportedOperationException.class, () -> result.put("language", "KOREAN"));
+        assertThrows(UnsupportedOperationException.class, () -> rankings.put("keyTermsCount", Map.of()));
+        assertThrows(UnsupportedOperationException.class, () -> ranks.get(0).setValue(99L));
+        assertThrows(UnsupportedOperationException.class, () -> tokens.add("최고"));
+        assertEquals(2L, (long) counts.get("맛"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.reviewgenie.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewgenie.domain.IngestionCheckpoint;
+import com.reviewgenie.repository.IngestionCheckpointRepository;
+import com.reviewgenie.util.JsonRecordReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckpointedIngestionTest {
+
+    private static final String SOURCE = "output/test_data.json";
+    private static final String FIVE_RECORDS = "{\"data\": [{\"id\": 1}, {\"id\": 2}, {\"id\": 3}, {\"id\": 4}, {\"id\": 5}]}";
+
+    @Mock
+    private IngestionCheckpointRepository checkpointRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CheckpointedIngestion checkpointedIngestion;
+
+    @BeforeEach
+    void setUp() {
+        // 2건마다 커밋
+        checkpointedIngestion = new CheckpointedIngestion(checkpointRepository, jdbcTemplate, transactionTemplate, 2);
+    }
+
+    @Test
+    void ingest_ResumesAfterCheckpointOffset() throws IOException {
+        // Given - 2건까지 반영된 체크포인트
+        when(checkpointRepository.findById(SOURCE)).thenReturn(Optional.of(checkpoint(2L, false)));
+        runTransactionsInline();
+        List<Integer> written = new ArrayList<>();
+
+        // When
+        long ingested;
+        try (JsonRecordReader records = open(FIVE_RECORDS)) {
+            ingested = checkpointedIngestion.ingest(SOURCE, records, chunk -> chunk.forEach(record -> written.add(record.get("id").asInt())));
+        }
+
+        // Then - 3번째 레코드부터 이어서 반영하고, 청크마다 누적 위치로 체크포인트 갱신
+        assertEquals(3, ingested);
+        assertEquals(List.of(3, 4, 5), written);
+        verify(jdbcTemplate).update(anyString(), eq(SOURCE), eq(4L), anyLong(), eq(false), any());
+        verify(jdbcTemplate).update(anyString(), eq(SOURCE), eq(5L), anyLong(), eq(true), any());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    }
+
+    @Test
+    void ingest_CompletedSource_IsSkipped() throws IOException {
+        // Given
+        when(checkpointRepository.findById(SOURCE)).thenReturn(Optional.of(checkpoint(5L, true)));
+        List<JsonNode> written = new ArrayList<>();
+
+        // When
+        long ingested;
+        try (JsonRecordReader records = open(FIVE_RECORDS)) {
+            ingested = checkpointedIngestion.ingest(SOURCE, records, written::addAll);
+        }
+
+        // Then
+        assertEquals(0, ingested);
+        assertTrue(written.isEmpty());
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+
+    @Test
+    void ingest_FailedChunk_DoesNotAdvanceCheckpoint() throws IOException {
+        // Given - 체크포인트 없음, 두 번째 청크(레코드 3, 4) 반영 중 실패
+        when(checkpointRepository.findById(SOURCE)).thenReturn(Optional.empty());
+        runTransactionsInline();
+        CheckpointedIngestion.ChunkWriter writer = chunk -> {
+            if (chunk.get(0).get("id").asInt() == 3) {
+                throw new IllegalStateException("chunk failed");
+            }
+        };
+
+        // When & Then
+        try (JsonRecordReader records = open(FIVE_RECORDS)) {
+            assertThrows(IllegalStateException.class, () -> checkpointedIngestion.ingest(SOURCE, records, writer));
+        }
+        // 첫 청크의 체크포인트(2건)만 기록되고, 실패한 청크의 체크포인트는 기록되지 않음
+        verify(jdbcTemplate).update(anyString(), eq(SOURCE), eq(2L), anyLong(), eq(false), any());
+        verify(jdbcTemplate, never()).update(anyString(), eq(SOURCE), eq(4L), anyLong(), any(), any());
+    }
+
+    /**
+     * TransactionTemplate 콜백을 호출 스레드에서 바로 실행 (예외는 그대로 전파 = 롤백)
+     */
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private JsonRecordReader open(String content) throws IOException {
+        return JsonRecordReader.open(objectMapper, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "data");
+    }
+
+    private static IngestionCheckpoint checkpoint(long recordOffset, boolean completed) {
+        return IngestionCheckpoint.builder()
+                .source(SOURCE)
+                .recordOffset(recordOffset)
+                .byteOffset(0L)
+                .completed(completed)
+                .build();
+    }
+}
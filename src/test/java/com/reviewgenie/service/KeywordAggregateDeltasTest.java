@@ -0,0 +1,145 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.domain.Keyword;
+import com.reviewgenie.repository.KeywordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordAggregateDeltasTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private KoreanNLPService koreanNLPService;
+
+    @Mock
+    private KeywordRepository keywordRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private KeywordAggregateDeltas keywordAggregateDeltas;
+
+    @BeforeEach
+    void setUp() {
+        keywordAggregateDeltas = new KeywordAggregateDeltas(koreanNLPService, keywordRepository, jdbcTemplate, transactionTemplate);
+
+        // 리뷰 1건 = 일반 키워드 "커피" 1회 + 핵심 키워드 "맛" 긍정 1건
+        when(koreanNLPService.extractKeywordRankings((AnalyzedText) isNull())).thenReturn(Map.of(
+                "keyTermsCount", Map.of("맛", 1L),
+                "generalKeywordsRank", List.of(Map.entry("커피", 1L))));
+        when(koreanNLPService.analyzeSentimentByKeyTerms((AnalyzedText) isNull()))
+                .thenReturn(Map.of("맛", Map.of("POSITIVE", 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void replaceStore_DropsDeltasAtOrBelowScannedReviewId() {
+        // Given
+        stubWrite();
+        keywordAggregateDeltas.recordAfterCommit(STORE_ID, 5L, "맛있어요", "POSITIVE");
+        keywordAggregateDeltas.recordAfterCommit(STORE_ID, 10L, "맛있어요", "POSITIVE");
+        keywordAggregateDeltas.recordAfterCommit(STORE_ID, 12L, "맛있어요", "POSITIVE");
+
+        // When - 집계 작업이 리뷰 10 까지 스캔해 교체
+        keywordAggregateDeltas.replaceStore(STORE_ID, 10L, () -> { });
+        keywordAggregateDeltas.flush();
+
+        // Then - 리뷰 12 의 증분만 반영
+        assertEquals(List.of(1), flushedPositiveCounts());
+    }
+
+    @Test
+    void replaceStore_DropsDeltaCommittedAfterReplace() {
+        // Given - 리뷰 7 의 트랜잭션이 커밋되기 전에 집계 작업이 리뷰 10 까지 스캔해 교체
+        TransactionSynchronizationManager.initSynchronization();
+        keywordAggregateDeltas.recordAfterCommit(STORE_ID, 7L, "맛있어요", "POSITIVE");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        keywordAggregateDeltas.replaceStore(STORE_ID, 10L, () -> { });
+
+        // When - 뒤늦게 afterCommit 실행 후 flush
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        keywordAggregateDeltas.flush();
+
+        // Then - 이미 교체 결과에 포함된 리뷰이므로 반영하지 않음
+        verifyNoInteractions(transactionTemplate, jdbcTemplate);
+    }
+
+    @Test
+    void flush_Failure_RequeuesDeltasForNextFlush() {
+        // Given - 첫 번째 반영 트랜잭션만 실패
+        when(keywordRepository.findAll()).thenReturn(List.of(Keyword.builder().keywordId(1L).keywordName("맛").build()));
+        doReturn(new long[] { 100L }).when(jdbcTemplate).execute(any(ConnectionCallback.class));
+        doThrow(new IllegalStateException("db down"))
+                .doAnswer(invocation -> {
+                    Consumer<TransactionStatus> action = invocation.getArgument(0);
+                    action.accept(null);
+                    return null;
+                })
+                .when(transactionTemplate).executeWithoutResult(any());
+        keywordAggregateDeltas.recordAfterCommit(STORE_ID, 3L, "맛있어요", "POSITIVE");
+
+        // When
+        keywordAggregateDeltas.flush();
+        keywordAggregateDeltas.flush();
+
+        // Then - 실패한 누적분이 다음 flush 에서 한 번만 반영됨
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        assertEquals(List.of(1), flushedPositiveCounts());
+    }
+
+    /**
+     * flush 의 반영 트랜잭션을 호출 스레드에서 바로 실행하고, 키워드 "맛"(id 1) 과 ID 선할당을 흉내냄
+     */
+    private void stubWrite() {
+        when(keywordRepository.findAll()).thenReturn(List.of(Keyword.builder().keywordId(1L).keywordName("맛").build()));
+        doReturn(new long[] { 100L }).when(jdbcTemplate).execute(any(ConnectionCallback.class));
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    /**
+     * core_keyword_sentiment 에 더한 긍정 건수 (행 순서대로)
+     */
+    private List<Integer> flushedPositiveCounts() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("core_keyword_sentiment"), rows.capture());
+        return rows.getValue().stream().map(row -> (Integer) row[3]).toList();
+    }
+}
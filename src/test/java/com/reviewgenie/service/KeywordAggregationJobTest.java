@@ -0,0 +1,113 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.domain.Keyword;
+import com.reviewgenie.repository.KeywordRepository;
+import com.reviewgenie.repository.ReviewRepository;
+import com.reviewgenie.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordAggregationJobTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private KeywordRepository keywordRepository;
+
+    @Mock
+    private KoreanNLPService koreanNLPService;
+
+    @Mock
+    private KeywordAggregateDeltas keywordAggregateDeltas;
+
+    @Mock
+    private InitialDataLoadStatus initialDataLoadStatus;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private KeywordAggregationJob keywordAggregationJob;
+
+    @BeforeEach
+    void setUp() {
+        // 매장 1곳씩, 리뷰 2건 단위로 스캔
+        keywordAggregationJob = new KeywordAggregationJob(storeRepository, reviewRepository, keywordRepository, koreanNLPService,
+                keywordAggregateDeltas, initialDataLoadStatus, jdbcTemplate, transactionTemplate, 1, 2, 20);
+    }
+
+    @Test
+    void aggregateStore_ReplacesWithScannedReviewIdAndStoresOnlyMentionedCoreKeywords() {
+        // Given - 리뷰 2건 모두 일반 키워드 "커피", 핵심 키워드 "맛" 긍정 (핵심 키워드 "가격" 은 언급 없음)
+        when(storeRepository.existsById(STORE_ID)).thenReturn(true);
+        when(keywordRepository.findAll()).thenReturn(List.of(
+                Keyword.builder().keywordId(1L).keywordName("맛").build(),
+                Keyword.builder().keywordId(2L).keywordName("가격").build()));
+        when(reviewRepository.findChunkByStoreId(eq(STORE_ID), eq(0L), any())).thenReturn(List.of(
+                new Object[] { 10L, "커피가 맛있어요", "POSITIVE" },
+                new Object[] { 12L, "커피 맛 최고", "POSITIVE" }));
+        when(reviewRepository.findChunkByStoreId(eq(STORE_ID), eq(12L), any())).thenReturn(List.of());
+        when(koreanNLPService.extractKeywordRankings((AnalyzedText) isNull())).thenReturn(Map.of(
+                "keyTermsCount", Map.of("맛", 1L),
+                "generalKeywordsRank", List.of(Map.entry("커피", 1L))));
+        when(koreanNLPService.analyzeSentimentByKeyTerms((AnalyzedText) isNull()))
+                .thenReturn(Map.of("맛", Map.of("POSITIVE", 1)));
+        doReturn(new long[] { 100L }).when(jdbcTemplate).execute(any(ConnectionCallback.class));
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(keywordAggregateDeltas).replaceStore(eq(STORE_ID), eq(12L), any());
+
+        // When
+        KeywordAggregationJob.StoreResult result = keywordAggregationJob.aggregateStore(STORE_ID);
+
+        // Then
+        assertNull(result.error());
+        assertEquals(2, result.reviewCount());
+        assertEquals(1, result.topKeywords());
+        assertEquals(1, result.coreKeywords());
+        verify(keywordAggregateDeltas).replaceStore(eq(STORE_ID), eq(12L), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> sentimentRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO core_keyword_sentiment"), sentimentRows.capture());
+        assertEquals(1, sentimentRows.getValue().size());
+        Object[] row = sentimentRows.getValue().get(0);
+        assertEquals(1L, row[2]);
+        assertEquals(2, row[3]);
+        assertEquals(0, row[4]);
+    }
+}
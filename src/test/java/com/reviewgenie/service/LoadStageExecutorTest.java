@@ -0,0 +1,66 @@
+package com.reviewgenie.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadStageExecutorTest {
+
+    @Test
+    void runsIndependentStagesConcurrentlyAfterDependencies() {
+        // Given - a → (b, c) : b 와 c 는 서로를 기다려야 끝나므로 동시에 실행되어야만 완료됨
+        Queue<String> order = new ConcurrentLinkedQueue<>();
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        LoadStageExecutor.Stage waitForSibling = () -> {
+            bothRunning.countDown();
+            assertTrue(bothRunning.await(5, TimeUnit.SECONDS), "sibling stage did not run concurrently");
+        };
+
+        // When
+        List<LoadStageExecutor.StageResult> results = new LoadStageExecutor("test", 2)
+                .stage("a", () -> order.add("a"))
+                .stage("b", () -> { waitForSibling.run(); order.add("b"); }, "a")
+                .stage("c", () -> { waitForSibling.run(); order.add("c"); }, "a")
+                .run();
+
+        // Then
+        assertEquals(List.of("a", "b", "c"), results.stream().map(LoadStageExecutor.StageResult::name).toList());
+        assertTrue(results.stream().allMatch(result -> result.status() == LoadStageExecutor.Status.SUCCESS));
+        assertEquals("a", order.peek());
+        assertEquals(3, order.size());
+    }
+
+    @Test
+    void skipsDependentsOfFailedStageButRunsOtherBranches() {
+        // Given
+        Queue<String> executed = new ConcurrentLinkedQueue<>();
+
+        // When
+        List<LoadStageExecutor.StageResult> results = new LoadStageExecutor("test", 2)
+                .stage("users", () -> { throw new IllegalStateException("boom"); })
+                .stage("keywords", () -> executed.add("keywords"))
+                .stage("stores", () -> executed.add("stores"), "users")
+                .stage("reviews", () -> executed.add("reviews"), "stores")
+                .run();
+
+        // Then
+        assertEquals(List.of("keywords"), List.copyOf(executed));
+        assertEquals(LoadStageExecutor.Status.FAILED, results.get(0).status());
+        assertEquals("boom", results.get(0).error());
+        assertEquals(LoadStageExecutor.Status.SUCCESS, results.get(1).status());
+        assertEquals(LoadStageExecutor.Status.SKIPPED, results.get(2).status());
+        assertEquals(LoadStageExecutor.Status.SKIPPED, results.get(3).status());
+    }
+
+    @Test
+    void rejectsUnknownDependency() {
+        LoadStageExecutor executor = new LoadStageExecutor("test", 1);
+        assertThrows(IllegalArgumentException.class, () -> executor.stage("reviews", () -> { }, "stores"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.reviewgenie.service;
+
+import com.reviewgenie.repository.ReviewDailyStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewTrendServiceTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private ReviewDailyStatsRepository reviewDailyStatsRepository;
+
+    @InjectMocks
+    private ReviewTrendService reviewTrendService;
+
+    @Test
+    void getTrend_Week_ClampsPartialFirstAndLastBuckets() {
+        // Given - 2026-10-01(목) ~ 2026-10-15(목), 첫 주(09-28 시작)에만 리뷰
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 15);
+        when(reviewDailyStatsRepository.sumByStoreIdGroupByPeriod(STORE_ID, "week", from, to))
+                .thenReturn(List.<Object[]>of(new Object[] { LocalDate.of(2026, 9, 28), 1L, 2L, 3L }));
+
+        // When
+        List<ReviewTrendService.Bucket> buckets = reviewTrendService.getTrend(STORE_ID, from, to, ReviewTrendService.Granularity.WEEK);
+
+        // Then
+        assertEquals(List.of(
+                new ReviewTrendService.Bucket(LocalDate.of(2026, 9, 28), from, LocalDate.of(2026, 10, 4), 6, 1, 2, 3),
+                new ReviewTrendService.Bucket(LocalDate.of(2026, 10, 5), LocalDate.of(2026, 10, 5), LocalDate.of(2026, 10, 11), 0, 0, 0, 0),
+                new ReviewTrendService.Bucket(LocalDate.of(2026, 10, 12), LocalDate.of(2026, 10, 12), to, 0, 0, 0, 0)
+        ), buckets);
+    }
+
+    @Test
+    void getTrend_Month_ClampsPartialFirstAndLastBuckets() {
+        // Given - 기간 시작일이 java.sql.Date 로 반환되는 경우 포함
+        LocalDate from = LocalDate.of(2026, 9, 15);
+        LocalDate to = LocalDate.of(2026, 10, 15);
+        when(reviewDailyStatsRepository.sumByStoreIdGroupByPeriod(STORE_ID, "month", from, to))
+                .thenReturn(List.<Object[]>of(new Object[] { Date.valueOf(LocalDate.of(2026, 10, 1)), 4L, 0L, 1L }));
+
+        // When
+        List<ReviewTrendService.Bucket> buckets = reviewTrendService.getTrend(STORE_ID, from, to, ReviewTrendService.Granularity.MONTH);
+
+        // Then
+        assertEquals(List.of(
+                new ReviewTrendService.Bucket(LocalDate.of(2026, 9, 1), from, LocalDate.of(2026, 9, 30), 0, 0, 0, 0),
+                new ReviewTrendService.Bucket(LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 1), to, 5, 4, 0, 1)
+        ), buckets);
+    }
+
+    @Test
+    void getTrend_Day_ZeroFillsDaysWithoutReviews() {
+        // Given - 가운데 날짜에만 리뷰
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 3);
+        when(reviewDailyStatsRepository.sumByStoreIdGroupByPeriod(STORE_ID, "day", from, to))
+                .thenReturn(List.<Object[]>of(new Object[] { LocalDate.of(2026, 10, 2), 2L, 1L, 0L }));
+
+        // When
+        List<ReviewTrendService.Bucket> buckets = reviewTrendService.getTrend(STORE_ID, from, to, ReviewTrendService.Granularity.DAY);
+
+        // Then
+        assertEquals(3, buckets.size());
+        assertEquals(List.of(0L, 3L, 0L), buckets.stream().map(ReviewTrendService.Bucket::total).toList());
+        assertEquals(List.of(from, LocalDate.of(2026, 10, 2), to), buckets.stream().map(ReviewTrendService.Bucket::period).toList());
+        buckets.forEach(bucket -> {
+            assertEquals(bucket.period(), bucket.from());
+            assertEquals(bucket.period(), bucket.to());
+        });
+    }
+
+    @Test
+    void getTrend_TooManyBuckets_IsRejected() {
+        // Given - day 단위 MAX_BUCKETS + 1 일
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = from.plusDays(ReviewTrendService.MAX_BUCKETS);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> reviewTrendService.getTrend(STORE_ID, from, to, ReviewTrendService.Granularity.DAY));
+        verifyNoInteractions(reviewDailyStatsRepository);
+    }
+
+    @Test
+    void getTrend_FromAfterTo_IsRejected() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> reviewTrendService.getTrend(STORE_ID,
+                LocalDate.of(2026, 10, 2), LocalDate.of(2026, 10, 1), ReviewTrendService.Granularity.DAY));
+        verifyNoInteractions(reviewDailyStatsRepository);
+    }
+}
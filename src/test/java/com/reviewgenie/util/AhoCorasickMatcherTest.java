@@ -0,0 +1,91 @@
+package com.reviewgenie.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AhoCorasickMatcherTest {
+
+    private static final int POSITIVE = 1;
+    private static final int NEGATIVE = 1 << 1;
+
+    @Test
+    void match_ReturnsMaskOfAllContainedPatterns() {
+        // Given
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.builder()
+                .add("맛있", POSITIVE)
+                .add("맛없", NEGATIVE)
+                .add("별로", NEGATIVE)
+                .build();
+
+        // When & Then
+        assertEquals(POSITIVE, matcher.match("맛있어요"));
+        assertEquals(NEGATIVE, matcher.match("맛없고"));
+        assertEquals(POSITIVE | NEGATIVE, matcher.match("맛있는데별로"));
+        assertEquals(0, matcher.match("보통이에요"));
+        assertEquals(0, matcher.match(""));
+    }
+
+    @Test
+    void match_FindsPatternsReachableOnlyThroughFailureLinks() {
+        // Given - "불친절" 안의 "친절" 은 실패 링크를 통해서만 발견됨
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.builder()
+                .add("불친절", NEGATIVE)
+                .add("친절", POSITIVE)
+                .build();
+
+        // When & Then
+        assertEquals(POSITIVE | NEGATIVE, matcher.match("불친절해요"));
+        assertEquals(POSITIVE, matcher.match("불친하고친절"));
+    }
+
+    @Test
+    void match_IsEquivalentToStringContains() {
+        // Given
+        Map<String, Integer> lexicon = Map.of(
+                "좋", POSITIVE, "괜찮", POSITIVE, "아쉬", NEGATIVE, "시", NEGATIVE, "달", NEGATIVE);
+        AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder();
+        lexicon.forEach(builder::add);
+        AhoCorasickMatcher matcher = builder.build();
+
+        List<String> tokens = List.of("좋았어요", "아쉬웠지만", "시원한", "달달", "괜찮", "없음", "괜찬아요");
+
+        for (String token : tokens) {
+            int expected = 0;
+            for (Map.Entry<String, Integer> entry : lexicon.entrySet()) {
+                if (token.contains(entry.getKey())) {
+                    expected |= entry.getValue();
+                }
+            }
+
+            // When & Then
+            assertEquals(expected, matcher.match(token), token);
+        }
+    }
+
+    @Test
+    void forEachMatch_ReportsEndOffsetsWithinRange() {
+        // Given
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.builder()
+                .add("맛", POSITIVE)
+                .add("별로", NEGATIVE)
+                .build();
+        String text = "맛은 별로, 맛집";
+        List<Integer> ends = new ArrayList<>();
+
+        // When
+        matcher.forEachMatch(text, 1, text.length(), (end, mask) -> ends.add(end));
+
+        // Then
+        assertEquals(List.of(5, 8), ends);
+    }
+
+    @Test
+    void add_RejectsEmptyPattern() {
+        assertThrows(IllegalArgumentException.class, () -> AhoCorasickMatcher.builder().add("", POSITIVE));
+    }
+}
@@ -0,0 +1,33 @@
+package com.reviewgenie.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentHashTest {
+
+    @Test
+    void of_IsEquivalentToIncrementalUpdate() {
+        // Given
+        String text = "맛있어요 최고";
+
+        // When
+        long hash = ContentHash.start();
+        for (int i = 0; i < text.length(); i++) {
+            hash = ContentHash.update(hash, text.charAt(i));
+        }
+
+        // Then
+        assertEquals(ContentHash.of(text), ContentHash.finish(hash));
+        assertEquals(ContentHash.of(text), ContentHash.of(new StringBuilder(text)));
+    }
+
+    @Test
+    void of_DistinguishesOrderAndSingleCharacterChanges() {
+        // When & Then
+        assertNotEquals(ContentHash.of("ab"), ContentHash.of("ba"));
+        assertNotEquals(ContentHash.of("맛있어요"), ContentHash.of("맛없어요"));
+        assertNotEquals(ContentHash.of(""), ContentHash.of(" "));
+        assertEquals(ContentHash.of("친절해요"), ContentHash.of("친절해요"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.reviewgenie.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static InputStream json(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readsArrayElementsOneByOneAfterSkippingOtherFields() throws IOException {
+        // Given - 배열 앞뒤에 다른 필드(중첩 객체/배열 포함)가 있는 경우
+        String content = "{\"meta\": {\"data\": [9], \"nested\": {\"x\": 1}}, \"tags\": [[1], [2]],"
+                + " \"data\": [{\"store_id\": 1, \"content\": \"맛있어요\"}, {\"store_id\": 2, \"content\": \"별로\"}],"
+                + " \"total_count\": 2}";
+        List<String> contents = new ArrayList<>();
+
+        // When
+        try (JsonRecordReader records = JsonRecordReader.open(objectMapper, json(content), "data")) {
+            for (JsonNode record : records) {
+                contents.add(record.get("content").asText());
+            }
+
+            // Then
+            assertEquals(List.of("맛있어요", "별로"), contents);
+            assertEquals(2, records.getCount());
+        }
+    }
+
+    @Test
+    void returnsNoRecordsWhenFieldIsMissingOrNotArray() throws IOException {
+        for (String content : List.of("{\"other\": [1, 2]}", "{\"data\": {\"a\": 1}}", "{\"data\": []}", "[]")) {
+            try (JsonRecordReader records = JsonRecordReader.open(objectMapper, json(content), "data")) {
+                assertFalse(records.iterator().hasNext(), content);
+                assertEquals(0, records.getCount());
+            }
+        }
+    }
+
+    @Test
+    void skipResumesAfterGivenNumberOfRecords() throws IOException {
+        // Given
+        String content = "{\"data\": [{\"id\": 1, \"tags\": [1, 2]}, {\"id\": 2}, {\"id\": 3}]}";
+
+        try (JsonRecordReader records = JsonRecordReader.open(objectMapper, json(content), "data")) {
+            // When
+            long skipped = records.skip(2);
+            List<Integer> ids = new ArrayList<>();
+            for (JsonNode record : records) {
+                ids.add(record.get("id").asInt());
+            }
+
+            // Then
+            assertEquals(2, skipped);
+            assertEquals(List.of(3), ids);
+            assertEquals(3, records.getCount());
+            assertTrue(records.getByteOffset() > 0);
+        }
+
+        try (JsonRecordReader records = JsonRecordReader.open(objectMapper, json(content), "data")) {
+            assertEquals(3, records.skip(10));
+            assertFalse(records.iterator().hasNext());
+        }
+    }
+
+    @Test
+    void iteratorCanOnlyBeObtainedOnce() throws IOException {
+        try (JsonRecordReader records = JsonRecordReader.open(objectMapper, json("{\"data\": [{}]}"), "data")) {
+            records.iterator();
+            assertThrows(IllegalStateException.class, records::iterator);
+        }
+    }
+}
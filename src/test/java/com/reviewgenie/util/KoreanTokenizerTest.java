@@ -0,0 +1,49 @@
+package com.reviewgenie.util;
+
+import com.reviewgenie.util.KoreanTokenizer.TextSpans;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KoreanTokenizerTest {
+
+    @Test
+    void tokenize_SplitsOnNonHangulAlphanumericCharacters() {
+        // Given
+        String text = "카페페퍼 방문했어요💞\n레밍턴+페퍼라떼 조합~^^ 2번째 visit!";
+
+        // When
+        TextSpans spans = KoreanTokenizer.tokenize(text);
+
+        // Then
+        assertEquals(List.of("카페페퍼", "방문했어요", "레밍턴", "페퍼라떼", "조합", "2번째", "visit"), spans.toList());
+        assertEquals(0, spans.start(0));
+        assertEquals(4, spans.end(0));
+    }
+
+    @Test
+    void tokenize_ExcludesHangulJamo() {
+        // 자모(ㅋ, ㅠ)는 기존 정규식 [가-힣] 범위 밖이므로 구분자로 취급
+        assertEquals(List.of("맛집", "최고"), KoreanTokenizer.tokenize("ㅋㅋ맛집ㅠㅠ최고").toList());
+    }
+
+    @Test
+    void tokenize_ReturnsEmptyForBlankText() {
+        assertTrue(KoreanTokenizer.tokenize("  \n\t ").isEmpty());
+        assertTrue(KoreanTokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void sentences_SplitsOnDelimitersAndTrims() {
+        // Given
+        String text = "  맛있어요!! 가격은 비싸요?\n\n 다음에 또 올게요.  ";
+
+        // When
+        TextSpans spans = KoreanTokenizer.sentences(text);
+
+        // Then
+        assertEquals(List.of("맛있어요", "가격은 비싸요", "다음에 또 올게요"), spans.toList());
+    }
+}
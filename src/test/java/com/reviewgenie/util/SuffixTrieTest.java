@@ -0,0 +1,44 @@
+package com.reviewgenie.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuffixTrieTest {
+
+    @Test
+    void longestMatch_ReturnsLongestRegisteredSuffix() {
+        // Given - "에서" 와 "서" 가 모두 등록된 경우 더 긴 접미사를 선택
+        SuffixTrie trie = SuffixTrie.of(List.of("서", "에서", "는"));
+
+        // When & Then
+        assertEquals(2, trie.longestMatch("매장에서", 0, 4));
+        assertEquals(1, trie.longestMatch("써서", 0, 2));
+        assertEquals(1, trie.longestMatch("맛은좋는", 0, 4));
+        // 범위 밖의 글자는 보지 않음
+        assertEquals(1, trie.longestMatch("매장에서", 3, 4));
+        assertEquals(2, trie.longestMatch("매장에서요", 0, 4));
+    }
+
+    @Test
+    void matches_ReturnsFalseWhenNoSuffixMatches() {
+        // Given
+        SuffixTrie trie = SuffixTrie.of(List.of("했다", "어요"));
+
+        // When & Then
+        assertTrue(trie.matches("맛있어요"));
+        assertTrue(trie.matches("좋았했다"));
+        assertFalse(trie.matches("맛집"));
+        assertFalse(trie.matches("다"));
+        assertFalse(trie.matches(""));
+        assertEquals(0, trie.longestMatch("맛집", 0, 2));
+        assertEquals(0, trie.longestMatch("", 0, 0));
+    }
+
+    @Test
+    void of_RejectsEmptySuffix() {
+        assertThrows(IllegalArgumentException.class, () -> SuffixTrie.of(List.of("")));
+    }
+}